@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/ai")
 @RequiredArgsConstructor
@@ -19,10 +21,18 @@ public class AiController {
     @PostMapping("/evaluate-event/{eventId}")
     public ResponseEntity<String> evaluateEvent(@PathVariable String eventId) {
         try {
-            aiService.queueEventEvaluation(eventId);
+            if (!aiService.queueEventEvaluation(eventId)) {
+                return ResponseEntity.status(409).body("An evaluation of this event is already in progress.");
+            }
             return ResponseEntity.ok("Evaluation queued for event: " + eventId);
         } catch (RuntimeException e) {
-            return ResponseEntity.status(409).body(e.getMessage());
+            return ResponseEntity.status(502).body(e.getMessage());
         }
     }
+
+    @GetMapping("/jobs/{eventId}")
+    public ResponseEntity<Map<String, Object>> getJobProgress(@PathVariable String eventId) {
+        Map<String, Object> progress = aiService.getJobProgress(eventId);
+        return progress == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(progress);
+    }
 }
@@ -0,0 +1,180 @@
+package com.ehub.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Scores keyed by what the model actually sees: the repository at a resolved commit, the problem statement,
+// the prompt version and the model. An unchanged submission is never sent to the LLM twice.
+// Submissions whose commit cannot be resolved are not cached, since a push would go unnoticed.
+// Without ai.cache.github-token GitHub allows 60 lookups an hour per IP; resolved SHAs are reused for
+// ai.cache.commit-ttl and lookups pause entirely while GitHub reports the limit as exhausted.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EvaluationCache {
+
+    private static final String KEY_PREFIX = "ai:score:";
+    private static final String COMMIT_KEY_PREFIX = "ai:commit:";
+    private static final Duration DEFAULT_RATE_LIMIT_BACKOFF = Duration.ofMinutes(1);
+    // Repository root, or a /tree/<branch> or /commit/<sha> link whose ref is resolved instead of HEAD
+    private static final Pattern GITHUB_REPO = Pattern.compile(
+            "^https?://(?:www\\.)?github\\.com/([^/]+)/([^/#?]+?)(?:\\.git)?(?:/(?:tree|commit)/([^#?]+)|[/#?].*)?(?:[#?].*)?$");
+
+    private final StringRedisTemplate redisTemplate;
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.cache.ttl:30d}")
+    private Duration ttl;
+
+    @Value("${ai.cache.github-api-url:https://api.github.com}")
+    private String githubApiUrl;
+
+    @Value("${ai.cache.github-token:}")
+    private String githubToken;
+
+    @Value("${ai.cache.commit-ttl:2m}")
+    private Duration commitTtl;
+
+    private volatile long rateLimitedUntil;
+
+    @PostConstruct
+    public void init() {
+        if (enabled && githubToken.isBlank()) {
+            log.warn("ai.cache.github-token is not set; GitHub allows 60 unauthenticated commit lookups per hour, "
+                    + "submissions beyond that are scored without the cache");
+        }
+    }
+
+    // Null when the submission cannot be cached
+    public String key(EvaluationTask task, String promptVersion, String model) {
+        if (!enabled || task.repoUrl() == null) {
+            return null;
+        }
+        String commit = resolveCommit(task.repoUrl().trim());
+        if (commit == null) {
+            count("unresolved");
+            return null;
+        }
+        return KEY_PREFIX + sha256(String.join("\n",
+                task.repoUrl().trim(), commit, String.valueOf(task.problemStatement()), promptVersion, model));
+    }
+
+    public Double get(String key) {
+        if (key == null) {
+            return null;
+        }
+        String cached = redisTemplate.opsForValue().get(key);
+        count(cached == null ? "miss" : "hit");
+        return cached == null ? null : Double.valueOf(cached);
+    }
+
+    public void put(String key, Double score) {
+        if (key != null && score != null) {
+            redisTemplate.opsForValue().set(key, score.toString(), ttl);
+        }
+    }
+
+    private String resolveCommit(String repoUrl) {
+        Matcher matcher = GITHUB_REPO.matcher(repoUrl);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String ref = matcher.group(3) == null ? "HEAD" : stripTrailingSlash(matcher.group(3));
+        String path = matcher.group(1) + "/" + matcher.group(2) + "/commits/" + ref;
+
+        String cacheKey = COMMIT_KEY_PREFIX + path;
+        String cached = redisTemplate.opsForValue().get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (System.currentTimeMillis() < rateLimitedUntil) {
+            return null;
+        }
+
+        String sha = fetchCommit(path, repoUrl);
+        if (sha != null) {
+            redisTemplate.opsForValue().set(cacheKey, sha, commitTtl);
+        }
+        return sha;
+    }
+
+    // vnd.github.sha returns just the SHA as plain text
+    private String fetchCommit(String path, String repoUrl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT, "application/vnd.github.sha");
+        headers.set(HttpHeaders.USER_AGENT, "ehub-ai-service");
+        if (!githubToken.isBlank()) {
+            headers.setBearerAuth(githubToken);
+        }
+        try {
+            String sha = restTemplate.exchange(githubApiUrl + "/repos/" + path, HttpMethod.GET,
+                    new HttpEntity<>(headers), String.class).getBody();
+            return sha == null || sha.isBlank() ? null : sha.trim();
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode().value() == 403 || e.getStatusCode().value() == 429) {
+                backOff(e.getResponseHeaders());
+            } else {
+                log.warn("Could not resolve commit for {}: {}", repoUrl, e.getMessage());
+                count("lookup-failed");
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("Could not resolve commit for {}", repoUrl, e);
+            count("lookup-failed");
+            return null;
+        }
+    }
+
+    // GitHub signals an exhausted quota with 403 or 429 and says when it resets
+    private void backOff(HttpHeaders headers) {
+        long until = System.currentTimeMillis() + DEFAULT_RATE_LIMIT_BACKOFF.toMillis();
+        if (headers != null && headers.getFirst("Retry-After") != null) {
+            until = System.currentTimeMillis() + Long.parseLong(headers.getFirst("Retry-After").trim()) * 1000;
+        } else if (headers != null && headers.getFirst("X-RateLimit-Reset") != null) {
+            until = Long.parseLong(headers.getFirst("X-RateLimit-Reset").trim()) * 1000;
+        }
+        rateLimitedUntil = until;
+        count("rate-limited");
+        log.warn("GitHub rate limit reached; skipping commit lookups until {}", Instant.ofEpochMilli(until));
+    }
+
+    private static String stripTrailingSlash(String ref) {
+        return ref.endsWith("/") ? ref.substring(0, ref.length() - 1) : ref;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("ehub.ai.cache", "result", result).increment();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.ehub.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Durable evaluation work shared by every ai-service replica: one stream per event with one entry per team,
+// consumed through a consumer group, plus a progress hash per job. Entries stay pending until acknowledged,
+// so work held by a replica that dies is claimed by another one once it has been idle long enough.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EvaluationJobQueue {
+
+    static final String GROUP = "ai-evaluators";
+    private static final String STREAM_PREFIX = "ai:evaluations:";
+    // Events whose stream still has work; the dispatcher rotates over these
+    private static final String EVENTS_KEY = "ai:evaluations:events";
+    private static final String JOB_PREFIX = "ai:job:";
+    private static final String ACTIVE_PREFIX = "ai:jobs:active:";
+
+    // Acknowledges and drops the entry, then counts the team once even if it was delivered more than once.
+    // The last outcome closes the job, retires the event's stream and releases the event's guard.
+    private static final RedisScript<Long> RECORD_OUTCOME = new DefaultRedisScript<>(
+            "redis.call('XACK', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('XDEL', KEYS[1], ARGV[2]) " +
+            "if redis.call('SADD', KEYS[3], ARGV[3]) == 0 then return 0 end " +
+            "redis.call('HINCRBY', KEYS[2], ARGV[4], 1) " +
+            "local counts = redis.call('HMGET', KEYS[2], 'total', 'completed', 'failed') " +
+            "if tonumber(counts[2] or 0) + tonumber(counts[3] or 0) >= tonumber(counts[1] or 0) then " +
+            "  redis.call('HSET', KEYS[2], 'status', 'COMPLETED', 'finishedAt', ARGV[5]) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[6]) " +
+            "  redis.call('EXPIRE', KEYS[2], ARGV[6]) " +
+            "  redis.call('EXPIRE', KEYS[3], ARGV[6]) " +
+            "  redis.call('SREM', KEYS[5], ARGV[7]) " +
+            "  redis.call('DEL', KEYS[4]) " +
+            "end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.queue.consumer-name:${HOSTNAME:ai-service}}")
+    private String consumerName;
+
+    @Value("${ai.queue.claim-min-idle:10m}")
+    private Duration claimMinIdle;
+
+    @Value("${ai.queue.max-deliveries:3}")
+    private int maxDeliveries;
+
+    @Value("${ai.queue.fetch-timeout:2m}")
+    private Duration fetchTimeout;
+
+    @Value("${ai.queue.job-timeout:6h}")
+    private Duration jobTimeout;
+
+    @Value("${ai.queue.progress-retention:7d}")
+    private Duration progressRetention;
+
+    private Counter redelivered;
+    private Counter abandoned;
+
+    @PostConstruct
+    public void init() {
+        redelivered = Counter.builder("ehub.ai.jobs.redelivered")
+                .description("Stalled evaluation entries claimed from another consumer")
+                .register(meterRegistry);
+        abandoned = Counter.builder("ehub.ai.jobs.abandoned")
+                .description("Evaluation entries recorded as failed after using up their deliveries")
+                .register(meterRegistry);
+    }
+
+    public String consumerName() {
+        return consumerName;
+    }
+
+    // Only one run per event at a time, across all replicas. Held briefly while the submitting request fetches the
+    // teams, so a replica that dies mid-fetch blocks the event only for fetch-timeout; enqueue extends it.
+    public boolean tryStart(String eventId) {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(activeKey(eventId), "1", fetchTimeout))) {
+            return false;
+        }
+        redisTemplate.delete(List.of(jobKey(eventId), doneKey(eventId)));
+        Map<String, String> progress = new LinkedHashMap<>();
+        progress.put("status", "FETCHING");
+        progress.put("total", "0");
+        progress.put("completed", "0");
+        progress.put("failed", "0");
+        progress.put("startedAt", Instant.now().toString());
+        redisTemplate.opsForHash().putAll(jobKey(eventId), progress);
+        return true;
+    }
+
+    public void enqueue(String eventId, List<EvaluationTask> tasks) {
+        if (tasks.isEmpty()) {
+            finish(eventId, "COMPLETED");
+            return;
+        }
+        String streamKey = streamKey(eventId);
+        try {
+            redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), GROUP);
+        } catch (RedisSystemException e) {
+            // BUSYGROUP: the stream is left over from an earlier run of this event; new entries still sort after it
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        redisTemplate.persist(streamKey);
+        redisTemplate.opsForHash().put(jobKey(eventId), "total", String.valueOf(tasks.size()));
+        redisTemplate.opsForHash().put(jobKey(eventId), "status", "RUNNING");
+        for (EvaluationTask task : tasks) {
+            redisTemplate.opsForStream().add(StreamRecords.newRecord().in(streamKey).ofMap(task.toFields()));
+        }
+        redisTemplate.opsForSet().add(EVENTS_KEY, eventId);
+        redisTemplate.expire(activeKey(eventId), jobTimeout);
+    }
+
+    public List<String> activeEvents() {
+        Set<String> events = redisTemplate.opsForSet().members(EVENTS_KEY);
+        return events == null ? List.of() : events.stream().sorted().toList();
+    }
+
+    // One XREADGROUP over several event streams; COUNT applies per stream, so each event contributes at most one team
+    @SuppressWarnings("unchecked")
+    public List<EvaluationTask> readOnePerEvent(List<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        StreamOffset<String>[] offsets = eventIds.stream()
+                .map(eventId -> StreamOffset.create(streamKey(eventId), ReadOffset.lastConsumed()))
+                .toArray(StreamOffset[]::new);
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .read(Consumer.from(GROUP, consumerName), StreamReadOptions.empty().count(1), offsets);
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream().map(EvaluationJobQueue::toTask).toList();
+    }
+
+    public void fail(String eventId) {
+        finish(eventId, "FAILED");
+    }
+
+    public void complete(EvaluationTask task, boolean succeeded) {
+        redisTemplate.execute(RECORD_OUTCOME,
+                List.of(streamKey(task.eventId()), jobKey(task.eventId()), doneKey(task.eventId()),
+                        activeKey(task.eventId()), EVENTS_KEY),
+                GROUP, task.recordId(), task.teamId(), succeeded ? "completed" : "failed",
+                Instant.now().toString(), String.valueOf(progressRetention.toSeconds()), task.eventId());
+    }
+
+    // XPENDING + XCLAIM: takes over entries another consumer received but never acknowledged.
+    // Entries that already used up their deliveries are recorded as failed instead of being retried again.
+    public List<EvaluationTask> claimStalled(int limit) {
+        List<EvaluationTask> retries = new ArrayList<>();
+        for (String eventId : activeEvents()) {
+            if (retries.size() >= limit) {
+                break;
+            }
+            try {
+                retries.addAll(claimStalled(streamKey(eventId), limit - retries.size()));
+            } catch (RedisSystemException e) {
+                log.warn("Failed to reclaim evaluations for event {}", eventId, e);
+                meterRegistry.counter("ehub.ai.pipeline.failures", "stage", "reclaim").increment();
+            }
+        }
+        return retries;
+    }
+
+    private List<EvaluationTask> claimStalled(String streamKey, int limit) {
+        PendingMessages pending = redisTemplate.opsForStream().pending(streamKey, GROUP, Range.unbounded(), limit);
+        List<RecordId> stalled = new ArrayList<>();
+        Map<String, Long> deliveries = new HashMap<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) >= 0) {
+                stalled.add(message.getId());
+                deliveries.put(message.getIdAsString(), message.getTotalDeliveryCount());
+            }
+        }
+        if (stalled.isEmpty()) {
+            return List.of();
+        }
+
+        List<EvaluationTask> retries = new ArrayList<>();
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                .claim(streamKey, GROUP, consumerName, claimMinIdle, stalled.toArray(new RecordId[0]));
+        for (MapRecord<String, Object, Object> record : claimed) {
+            EvaluationTask task = toTask(record);
+            if (deliveries.getOrDefault(record.getId().getValue(), 0L) >= maxDeliveries) {
+                log.error("Giving up on team {} of event {} after {} deliveries", task.teamId(), task.eventId(), maxDeliveries);
+                abandoned.increment();
+                complete(task, false);
+            } else {
+                redelivered.increment();
+                retries.add(task);
+            }
+        }
+        return retries;
+    }
+
+    public Map<String, Object> progress(String eventId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(jobKey(eventId));
+        if (hash.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("eventId", eventId);
+        progress.put("status", hash.get("status"));
+        progress.put("total", Long.parseLong(String.valueOf(hash.getOrDefault("total", "0"))));
+        progress.put("completed", Long.parseLong(String.valueOf(hash.getOrDefault("completed", "0"))));
+        progress.put("failed", Long.parseLong(String.valueOf(hash.getOrDefault("failed", "0"))));
+        progress.put("startedAt", hash.get("startedAt"));
+        progress.put("finishedAt", hash.get("finishedAt"));
+        return progress;
+    }
+
+    private void finish(String eventId, String status) {
+        Map<String, String> update = Map.of("status", status, "finishedAt", Instant.now().toString());
+        redisTemplate.opsForHash().putAll(jobKey(eventId), update);
+        redisTemplate.expire(jobKey(eventId), progressRetention);
+        redisTemplate.opsForSet().remove(EVENTS_KEY, eventId);
+        redisTemplate.delete(activeKey(eventId));
+    }
+
+    private static EvaluationTask toTask(MapRecord<String, Object, Object> record) {
+        Map<String, String> fields = new HashMap<>();
+        record.getValue().forEach((key, value) -> fields.put(key.toString(), value.toString()));
+        return EvaluationTask.fromFields(record.getId().getValue(), fields);
+    }
+
+    private static String streamKey(String eventId) {
+        return STREAM_PREFIX + eventId;
+    }
+
+    private static String activeKey(String eventId) {
+        return ACTIVE_PREFIX + eventId;
+    }
+
+    private static String jobKey(String eventId) {
+        return JOB_PREFIX + eventId;
+    }
+
+    private static String doneKey(String eventId) {
+        return JOB_PREFIX + eventId + ":done";
+    }
+}
@@ -0,0 +1,287 @@
+package com.ehub.ai;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Evaluation as stages connected by bounded queues:
+// context fetch (on the submitting request) -> per-event Redis streams -> fair dispatch -> LLM call (throttled to the model quota) -> score write-back.
+// The dispatcher takes one team per active event per round, so concurrent events progress side by side instead of
+// one event's backlog holding up everyone else. Manual single-team evaluations skip the streams through a priority
+// lane with its own workers, which LLM workers also drain first, and which takes the next token at the rate limit
+// ahead of bulk workers already waiting for it. A stream entry is acknowledged only once its score is written back.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EvaluationPipeline {
+
+    private final EventServiceClient eventServiceClient;
+    private final EvaluationScorer evaluationScorer;
+    private final EvaluationJobQueue jobQueue;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${ai.pipeline.llm-workers:8}")
+    private int llmWorkers;
+
+    @Value("${ai.pipeline.priority-workers:1}")
+    private int priorityWorkers;
+
+    @Value("${ai.pipeline.write-workers:2}")
+    private int writeWorkers;
+
+    @Value("${ai.pipeline.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${ai.pipeline.priority-capacity:20}")
+    private int priorityCapacity;
+
+    @Value("${ai.pipeline.priority-timeout-ms:120000}")
+    private long priorityTimeoutMs;
+
+    @Value("${ai.queue.dispatch-idle-ms:500}")
+    private long dispatchIdleMs;
+
+    private BlockingQueue<Work> priorityLane;
+    private BlockingQueue<Work> tasks;
+    private BlockingQueue<ScoredTeam> scores;
+
+    private volatile boolean running = true;
+    private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+    // Position in the sorted list of active events where the next dispatch round starts
+    private int dispatchCursor;
+
+    @PostConstruct
+    public void start() {
+        priorityLane = new ArrayBlockingQueue<>(priorityCapacity);
+        tasks = new ArrayBlockingQueue<>(queueCapacity);
+        scores = new ArrayBlockingQueue<>(queueCapacity);
+        registerDepth("priority", priorityLane);
+        registerDepth("llm", tasks);
+        registerDepth("write", scores);
+
+        // Dedicated threads: these loops never return, so they must not occupy Boot's bounded task pool
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ai-pipeline-");
+        // Same check as Boot: the flag is ignored below JDK 21 instead of failing startup
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        startStage(executor, 1, this::dispatch);
+        startStage(executor, llmWorkers, this::score);
+        // Always free for the priority lane, even while every LLM worker is waiting on quota for bulk work
+        startStage(executor, priorityWorkers, this::scorePriority);
+        startStage(executor, writeWorkers, () -> write(scores.take()));
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    // Returns false when this event is already being evaluated on any replica. The team contexts are fetched
+    // and written to the event's stream before returning, so an accepted job survives a restart of this replica.
+    public boolean submit(String eventId) {
+        if (!jobQueue.tryStart(eventId)) {
+            return false;
+        }
+        try {
+            List<Map<String, Object>> teamContexts = eventServiceClient.fetchEventContexts(eventId);
+            jobQueue.enqueue(eventId, teamContexts == null ? List.of()
+                    : teamContexts.stream().map(context -> EvaluationTask.fromContext(eventId, context)).toList());
+        } catch (RuntimeException e) {
+            jobQueue.fail(eventId);
+            throw new RuntimeException("Could not load the event's teams: " + e.getMessage());
+        }
+        return true;
+    }
+
+    // Runs one team ahead of all bulk work and waits for its score
+    public Double evaluateNow(EvaluationTask task) throws InterruptedException {
+        CompletableFuture<Double> reply = new CompletableFuture<>();
+        if (!priorityLane.offer(new Work(task, reply))) {
+            throw new RuntimeException("Too many manual evaluations in progress, try again shortly.");
+        }
+        try {
+            return reply.get(priorityTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Evaluation failed: " + e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Evaluation for team " + task.teamId() + " timed out.");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.queue.reclaim-interval-ms:30000}")
+    public void reclaimStalled() {
+        int room = tasks.remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        try {
+            for (EvaluationTask task : jobQueue.claimStalled(room)) {
+                // Left pending if there is no room after all; it will be claimed again later
+                tasks.offer(new Work(task, null));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reclaim stalled evaluations", e);
+            countFailure("reclaim");
+        }
+    }
+
+    // One round-robin pass: at most one team from each active event, starting where the last pass stopped
+    // when there is not room for every event. Reads only what the LLM stage can take, which keeps it bounded.
+    private void dispatch() throws InterruptedException {
+        int room = tasks.remainingCapacity();
+        List<String> active;
+        try {
+            active = room == 0 ? List.of() : jobQueue.activeEvents();
+        } catch (Exception e) {
+            log.warn("Failed to list active evaluation jobs", e);
+            countFailure("dispatch");
+            active = List.of();
+        }
+        if (active.isEmpty()) {
+            TimeUnit.MILLISECONDS.sleep(dispatchIdleMs);
+            return;
+        }
+
+        List<String> round = new ArrayList<>(Math.min(room, active.size()));
+        int start = dispatchCursor % active.size();
+        for (int i = 0; i < active.size() && round.size() < room; i++) {
+            round.add(active.get((start + i) % active.size()));
+        }
+        dispatchCursor = start + round.size();
+
+        List<EvaluationTask> dispatched;
+        try {
+            dispatched = jobQueue.readOnePerEvent(round);
+        } catch (Exception e) {
+            log.warn("Failed to read evaluation streams", e);
+            countFailure("dispatch");
+            dispatched = List.of();
+        }
+        for (EvaluationTask task : dispatched) {
+            tasks.put(new Work(task, null));
+        }
+        if (dispatched.isEmpty()) {
+            TimeUnit.MILLISECONDS.sleep(dispatchIdleMs);
+        }
+    }
+
+    private void score() throws InterruptedException {
+        Work work = priorityLane.poll();
+        if (work == null) {
+            work = tasks.poll(100, TimeUnit.MILLISECONDS);
+        }
+        if (work != null) {
+            evaluate(work);
+        }
+    }
+
+    private void scorePriority() throws InterruptedException {
+        Work work = priorityLane.poll(100, TimeUnit.MILLISECONDS);
+        if (work != null) {
+            evaluate(work);
+        }
+    }
+
+    private void evaluate(Work work) throws InterruptedException {
+        EvaluationTask task = work.task();
+        log.info("Processing evaluation for team {} ({})", task.teamName(), task.teamId());
+        try {
+            Double score = evaluationScorer.score(task, work.reply() != null);
+            scores.put(new ScoredTeam(work, score));
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Evaluation failed for team {}", task.teamId(), e);
+            countFailure("evaluate");
+            if (work.reply() != null) {
+                work.reply().complete(0.0);
+            }
+            // Stream entries are not acknowledged: they are redelivered once idle long enough
+        }
+    }
+
+    private void write(ScoredTeam scored) {
+        Work work = scored.work();
+        EvaluationTask task = work.task();
+        try {
+            eventServiceClient.updateScore(task.teamId(), scored.score());
+            if (work.reply() == null) {
+                jobQueue.complete(task, true);
+            }
+        } catch (Exception e) {
+            log.error("Failed to update score for team {}", task.teamId(), e);
+            countFailure("write");
+        } finally {
+            if (work.reply() != null) {
+                work.reply().complete(scored.score());
+            }
+        }
+    }
+
+    private void startStage(SimpleAsyncTaskExecutor executor, int count, StageStep step) {
+        for (int i = 0; i < count; i++) {
+            executor.execute(() -> {
+                workers.add(Thread.currentThread());
+                try {
+                    while (running && !Thread.currentThread().isInterrupted()) {
+                        try {
+                            step.run();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } catch (Exception e) {
+                            log.error("Evaluation worker error", e);
+                            countFailure("worker");
+                        }
+                    }
+                } finally {
+                    workers.remove(Thread.currentThread());
+                }
+            });
+        }
+    }
+
+    private void countFailure(String stage) {
+        meterRegistry.counter("ehub.ai.pipeline.failures", "stage", stage).increment();
+    }
+
+    private void registerDepth(String stage, BlockingQueue<?> queue) {
+        Gauge.builder("ehub.ai.queue.depth", queue, BlockingQueue::size)
+                .description("Items waiting at each evaluation pipeline stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface StageStep {
+        void run() throws InterruptedException;
+    }
+
+    // reply is set only for manual evaluations waiting on the priority lane
+    private record Work(EvaluationTask task, CompletableFuture<Double> reply) {
+    }
+
+    private record ScoredTeam(Work work, Double score) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.ehub.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Cache lookup, quota and timing around whichever Evaluator is configured
+@Component
+@RequiredArgsConstructor
+public class EvaluationScorer {
+
+    private final Evaluator evaluator;
+    private final EvaluationCache evaluationCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.rate-limit.requests-per-minute:60}")
+    private int requestsPerMinute;
+
+    @Value("${ai.rate-limit.burst:5}")
+    private int burst;
+
+    // Shared by the pipeline and synchronous single-team evaluations, so together they stay within quota
+    private TokenBucket quota;
+    private Timer quotaWait;
+    private Timer latency;
+
+    @PostConstruct
+    public void init() {
+        quota = new TokenBucket(requestsPerMinute, burst);
+        quotaWait = Timer.builder("ehub.ai.rate-limit.wait")
+                .description("Time spent waiting for the model's requests-per-minute quota")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        latency = Timer.builder("ehub.ai.llm.latency")
+                .description("Latency of a model scoring call")
+                .tag("model", evaluator.model())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public Double score(EvaluationTask task, boolean priority) throws InterruptedException {
+        String cacheKey = evaluationCache.key(task, evaluator.promptVersion(), evaluator.model());
+        Double cached = evaluationCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        long waitStart = System.nanoTime();
+        quota.acquire(priority);
+        quotaWait.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+        long callStart = System.nanoTime();
+        Double score;
+        try {
+            score = evaluator.evaluate(task);
+        } finally {
+            latency.record(System.nanoTime() - callStart, TimeUnit.NANOSECONDS);
+        }
+
+        if (score != null) {
+            evaluationCache.put(cacheKey, score);
+            return score;
+        }
+        return 0.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ehub.ai;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// One team's evaluation as carried on the Redis stream; recordId is the stream entry to acknowledge
+public record EvaluationTask(String recordId, String eventId, String teamId, String teamName,
+                             String problemStatement, String repoUrl) {
+
+    static EvaluationTask fromContext(String eventId, Map<String, Object> context) {
+        return new EvaluationTask(null, eventId,
+                String.valueOf(context.get("teamId")),
+                (String) context.get("teamName"),
+                (String) context.getOrDefault("problemStatement", "No problem statement provided."),
+                (String) context.get("repoUrl"));
+    }
+
+    static EvaluationTask fromFields(String recordId, Map<String, String> fields) {
+        return new EvaluationTask(recordId, fields.get("eventId"), fields.get("teamId"), fields.get("teamName"),
+                fields.getOrDefault("problemStatement", "No problem statement provided."), fields.get("repoUrl"));
+    }
+
+    // Stream fields cannot be null, so absent values are simply left out
+    Map<String, String> toFields() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("eventId", eventId);
+        fields.put("teamId", teamId);
+        if (teamName != null) fields.put("teamName", teamName);
+        if (problemStatement != null) fields.put("problemStatement", problemStatement);
+        if (repoUrl != null) fields.put("repoUrl", repoUrl);
+        return fields;
+    }
+}
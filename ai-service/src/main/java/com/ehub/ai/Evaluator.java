@@ -0,0 +1,14 @@
+package com.ehub.ai;
+
+// Scores one team's submission. Selected with ai.evaluator: "gemini" (default) or "local" for offline runs.
+public interface Evaluator {
+
+    // Model identifier, used in cache keys and metric tags
+    String model();
+
+    // Changes whenever the prompt or response parsing changes, so cached scores from older versions are ignored
+    String promptVersion();
+
+    // Null when the model answered without a usable score
+    Double evaluate(EvaluationTask task) throws InterruptedException;
+}
@@ -0,0 +1,59 @@
+package com.ehub.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@SuppressWarnings("unchecked")
+public class EventServiceClient {
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${APPLICATION_EVENT_SERVICE_URL}")
+    private String eventServiceUrl;
+
+    private Timer eventContextTimer;
+    private Timer teamContextTimer;
+    private Timer updateScoreTimer;
+
+    @PostConstruct
+    public void init() {
+        eventContextTimer = timer("event-context");
+        teamContextTimer = timer("team-context");
+        updateScoreTimer = timer("update-score");
+    }
+
+    public List<Map<String, Object>> fetchEventContexts(String eventId) {
+        String url = eventServiceUrl + "/events/teams/event/" + eventId + "/evaluation-context";
+        return eventContextTimer.record(() -> (List<Map<String, Object>>) restTemplate.getForObject(url, List.class));
+    }
+
+    public Map<String, Object> fetchTeamContext(String teamId) {
+        String url = eventServiceUrl + "/events/teams/" + teamId + "/evaluation-context";
+        return teamContextTimer.record(() -> (Map<String, Object>) restTemplate.getForObject(url, Map.class));
+    }
+
+    public void updateScore(String teamId, Double score) {
+        String url = eventServiceUrl + "/events/teams/" + teamId + "/score?score=" + score;
+        updateScoreTimer.record(() -> restTemplate.postForEntity(url, null, String.class));
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("ehub.client.calls")
+                .description("Latency of outbound calls per client operation")
+                .tag("client", "event-service")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ehub.ai;
+
+import com.google.genai.Client;
+import com.google.genai.types.GenerateContentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.evaluator", havingValue = "gemini", matchIfMissing = true)
+public class GeminiEvaluator implements Evaluator {
+
+    @Value("${ai.gemini.model:gemini-3-flash-preview}")
+    private String model;
+
+    // One client for the whole service, created on first use so a missing key only fails evaluations
+    private volatile Client client;
+
+    @Override
+    public String model() {
+        return model;
+    }
+
+    @Override
+    public String promptVersion() {
+        return "1";
+    }
+
+    @Override
+    public Double evaluate(EvaluationTask task) {
+        try {
+            Client client = client();
+
+            String prompt = String.format(
+                "Evaluate the following project based on the provided details:\n\n" +
+                "Problem Statement: %s\n" +
+                "Repository URL: %s\n\n" +
+                "Criteria for Evaluation (Total 100%%):\n" +
+                "1. Innovation: 20%%\n" +
+                "2. Technical Complexity: 20%%\n" +
+                "3. Design & Implementation: 20%%\n" +
+                "4. Potential Impact: 20%%\n" +
+                "5. Theme Fit: 20%%\n\n" +
+                "Provide a final score out of 100. Respond ONLY with a JSON object containing a field 'score'.\n" +
+                "Example: {\"score\": 82.5}",
+                task.problemStatement(), task.repoUrl()
+            );
+
+            GenerateContentResponse response = client.models.generateContent(model, prompt, null);
+
+            String text = response.text();
+            String jsonStr = text.replaceAll("```json", "").replaceAll("```", "").trim();
+            
+            if (jsonStr.contains("\"score\":")) {
+                String scorePart = jsonStr.split("\"score\":")[1].split("}")[0].trim();
+                return Double.parseDouble(scorePart);
+            }
+        } catch (Exception e) {
+            log.error("Gemini SDK call failed", e);
+            throw e;
+        }
+        return null;
+    }
+
+    private Client client() {
+        Client current = client;
+        if (current == null) {
+            synchronized (this) {
+                if (client == null) {
+                    client = new Client();
+                }
+                current = client;
+            }
+        }
+        return current;
+    }
+}
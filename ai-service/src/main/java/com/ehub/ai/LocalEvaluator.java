@@ -0,0 +1,62 @@
+package com.ehub.ai;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Offline stand-in for the model: no network, no key. The score is a pure function of the submission, so reruns
+// are comparable; latency and failures are drawn from configurable distributions to mimic a real model.
+@Component
+@ConditionalOnProperty(name = "ai.evaluator", havingValue = "local")
+public class LocalEvaluator implements Evaluator {
+
+    // Median and spread of a log-normal latency, like the long-tailed latency of a hosted model
+    @Value("${ai.local.latency-median:2s}")
+    private Duration latencyMedian;
+
+    @Value("${ai.local.latency-sigma:0.5}")
+    private double latencySigma;
+
+    // Share of calls that throw, as a quota or transport error would
+    @Value("${ai.local.error-rate:0.0}")
+    private double errorRate;
+
+    // Share of calls that answer without a usable score
+    @Value("${ai.local.no-score-rate:0.0}")
+    private double noScoreRate;
+
+    @Override
+    public String model() {
+        return "local";
+    }
+
+    @Override
+    public String promptVersion() {
+        return "local-1";
+    }
+
+    @Override
+    public Double evaluate(EvaluationTask task) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latencyNanos = (long) (latencyMedian.toNanos() * Math.exp(latencySigma * random.nextGaussian()));
+        TimeUnit.NANOSECONDS.sleep(latencyNanos);
+
+        if (random.nextDouble() < errorRate) {
+            throw new RuntimeException("Simulated evaluator failure");
+        }
+        if (random.nextDouble() < noScoreRate) {
+            return null;
+        }
+        return score(task);
+    }
+
+    // 40.0 to 100.0 in steps of 0.5, stable for the same repository and problem statement
+    static double score(EvaluationTask task) {
+        int hash = (String.valueOf(task.repoUrl()) + "\n" + task.problemStatement()).hashCode();
+        return 40.0 + Math.floorMod(hash, 121) * 0.5;
+    }
+}
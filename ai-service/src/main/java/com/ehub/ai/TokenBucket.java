@@ -0,0 +1,71 @@
+package com.ehub.ai;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Token bucket refilled continuously at the model's requests-per-minute quota.
+// Waits happen outside the lock so virtual threads are never pinned while throttled.
+class TokenBucket {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+    private int priorityWaiters;
+
+    TokenBucket(int requestsPerMinute, int burst) {
+        if (requestsPerMinute <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Requests per minute and burst must be positive");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    // A priority caller waiting for a token blocks bulk callers from taking one, so a manual evaluation
+    // gets the next token even when bulk workers were already asleep waiting for it
+    void acquire(boolean priority) throws InterruptedException {
+        if (priority) {
+            changePriorityWaiters(1);
+        }
+        try {
+            while (true) {
+                long waitNanos;
+                lock.lock();
+                try {
+                    refill();
+                    if (tokens >= 1 && (priority || priorityWaiters == 0)) {
+                        tokens -= 1;
+                        return;
+                    }
+                    // A bulk caller passed over for a waiting priority caller retries once the next token is in
+                    waitNanos = (long) Math.ceil((Math.floor(tokens) + 1 - tokens) / tokensPerNano);
+                } finally {
+                    lock.unlock();
+                }
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } finally {
+            if (priority) {
+                changePriorityWaiters(-1);
+            }
+        }
+    }
+
+    private void changePriorityWaiters(int delta) {
+        lock.lock();
+        try {
+            priorityWaiters += delta;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
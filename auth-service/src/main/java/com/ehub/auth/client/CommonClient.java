@@ -1,20 +1,99 @@
 package com.ehub.auth.client;
 
+import com.ehub.http.PrefetchingPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class CommonClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${application.common-service.url}")
     private String baseUrl;
 
+    @Value("${application.common-service.uuid-pool.batch-size:200}")
+    private int batchSize;
+
+    @Value("${application.common-service.uuid-pool.low-water-mark:50}")
+    private int lowWaterMark;
+
+    private Timer uuidTimer;
+    private Timer uuidBatchTimer;
+    private Counter refillFailures;
+    private PrefetchingPool<String> uuidPool;
+
+    @PostConstruct
+    public void warmUp() {
+        uuidTimer = timer("uuid");
+        uuidBatchTimer = timer("uuid-batch");
+        refillFailures = Counter.builder("ehub.client.pool.refill.failures")
+                .description("Background batch fetches that failed to top up a prefetching pool")
+                .tag("client", "common-service")
+                .register(meterRegistry);
+        uuidPool = new PrefetchingPool<>("uuid", batchSize, lowWaterMark, this::refillBatch);
+        uuidPool.refillIfLow();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uuidPool.close();
+    }
+
     public String getUuid() {
-        return restTemplate.getForObject(baseUrl + "/uuid", String.class);
+        String uuid = uuidPool.poll();
+        if (uuid != null) {
+            return uuid;
+        }
+        // Pool drained faster than the refill could keep up; fall back to a direct call
+        return uuidTimer.record(() -> restTemplate.getForObject(baseUrl + "/uuid", String.class));
+    }
+
+    public List<String> getUuids(int count) {
+        List<String> uuids = uuidPool.drain(count);
+        while (uuids.size() < count) {
+            uuids.addAll(fetchBatch(count - uuids.size()));
+        }
+        return uuids;
+    }
+
+    // A pool that keeps failing to refill sends every caller to the direct call, so count it
+    private List<String> refillBatch(int count) {
+        try {
+            return fetchBatch(count);
+        } catch (RuntimeException e) {
+            refillFailures.increment();
+            throw e;
+        }
+    }
+
+    private List<String> fetchBatch(int count) {
+        String[] uuids = uuidBatchTimer.record(
+                () -> restTemplate.getForObject(baseUrl + "/uuid/batch?count=" + count, String[].class));
+        if (uuids == null || uuids.length == 0) {
+            throw new RuntimeException("Common service returned no UUIDs");
+        }
+        return Arrays.asList(uuids);
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("ehub.client.calls")
+                .description("Latency of outbound calls per client operation")
+                .tag("client", "common-service")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -1,5 +1,8 @@
 package com.ehub.auth.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,22 +14,41 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NotificationClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${application.notification-service.url}")
     private String baseUrl;
 
+    private Timer sendOtpTimer;
+    private Timer validateOtpTimer;
+
+    @PostConstruct
+    public void init() {
+        sendOtpTimer = timer("send-otp");
+        validateOtpTimer = timer("validate-otp");
+    }
+
     public void sendOtp(String email) {
         String url = baseUrl.replace("/validate", "/otp");
-        restTemplate.postForObject(url, Map.of("email", email), String.class);
+        sendOtpTimer.record(() -> restTemplate.postForObject(url, Map.of("email", email), String.class));
     }
 
     public boolean validateOtp(String email, String otp) {
-        Boolean isValid = restTemplate.postForObject(
+        Boolean isValid = validateOtpTimer.record(() -> restTemplate.postForObject(
                 baseUrl,
                 Map.of("email", email, "otp", otp),
                 Boolean.class
-        );
+        ));
         return Boolean.TRUE.equals(isValid);
     }
+
+    private Timer timer(String operation) {
+        return Timer.builder("ehub.client.calls")
+                .description("Latency of outbound calls per client operation")
+                .tag("client", "notification-service")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
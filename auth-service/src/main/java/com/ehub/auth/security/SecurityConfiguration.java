@@ -29,7 +29,9 @@ public class SecurityConfiguration {
                     "/auth/register/otp", 
                     "/auth/login",
                     "/auth/upgrade-role",
-                    "/auth/upgrade-role/otp"
+                    "/auth/upgrade-role/otp",
+                    "/actuator/health",
+                    "/actuator/prometheus"
                 ).permitAll()
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,129 @@
+#!/usr/bin/env bash
+# Compares the platform-thread and virtual-thread modes of the servlet services.
+#
+# For each mode the stack is (re)built and started with docker compose, every target
+# is warmed up and then driven with `hey` at each concurrency level while the
+# container's memory and live thread count are sampled. Results are written as CSV.
+#
+# Requirements: docker with the compose plugin. `hey` runs from a container that
+# shares the target's network namespace, so no host ports are needed.
+#
+# Usage (from the repository root):
+#   benchmark/virtual-threads.sh
+#   DURATION=30s CONCURRENCY_LEVELS="100 1000" MODES=virtual benchmark/virtual-threads.sh
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-15s}"
+CONCURRENCY_LEVELS="${CONCURRENCY_LEVELS:-50 200 800}"
+MODES="${MODES:-platform virtual}"
+HEY_IMAGE="${HEY_IMAGE:-williamyeh/hey}"
+RESULTS="${RESULTS:-$ROOT/benchmark/results/virtual-threads-$(date +%Y%m%d-%H%M%S).csv}"
+
+SERVICES="auth-db auth-service event-db event-service redis notification-service common-services"
+
+# container|url — endpoints that block on JDBC or downstream calls, plus a CPU-only baseline
+TARGETS=(
+  "event-service|http://localhost:8084/events/catalog?size=24"
+  "event-service|http://localhost:8084/events/participant/benchmark-user"
+  "common-services|http://localhost:8083/common/uuid/batch?count=100"
+)
+
+compose() {
+  local mode="$1"
+  shift
+  if [ "$mode" = "virtual" ]; then
+    docker compose -f "$ROOT/docker-compose.yml" -f "$ROOT/docker-compose.virtual-threads.yml" "$@"
+  else
+    docker compose -f "$ROOT/docker-compose.yml" "$@"
+  fi
+}
+
+wait_ready() {
+  local container="$1" url="$2"
+  for _ in $(seq 1 90); do
+    if docker exec "$container" wget -q -O /dev/null "$url" 2>/dev/null; then
+      return 0
+    fi
+    sleep 2
+  done
+  echo "Timed out waiting for $url in $container" >&2
+  return 1
+}
+
+# Samples memory (MiB) and JVM thread count until the marker file disappears
+sample_container() {
+  local container="$1" marker="$2" out="$3"
+  : > "$out"
+  while [ -f "$marker" ]; do
+    local mem threads
+    mem=$(docker stats --no-stream --format '{{.MemUsage}}' "$container" | awk '{print $1}')
+    threads=$(docker exec "$container" sh -c 'grep Threads /proc/1/status' | awk '{print $2}')
+    echo "$mem $threads" >> "$out"
+    sleep 1
+  done
+}
+
+to_mib() {
+  awk '{
+    v = $1; u = v; gsub(/[0-9.]/, "", u); gsub(/[A-Za-z]/, "", v);
+    if (u == "GiB") v *= 1024; else if (u == "KiB") v /= 1024; else if (u == "B") v /= 1048576;
+    printf "%.1f\n", v
+  }'
+}
+
+run_hey() {
+  local container="$1" url="$2" duration="$3" concurrency="$4"
+  docker run --rm --network "container:$container" "$HEY_IMAGE" -z "$duration" -c "$concurrency" "$url"
+}
+
+mkdir -p "$(dirname "$RESULTS")"
+echo "mode,container,url,concurrency,requests_per_sec,p50_ms,p99_ms,errors,peak_mem_mib,peak_threads" > "$RESULTS"
+
+for mode in $MODES; do
+  echo "==> Starting $mode-thread stack"
+  compose "$mode" down --remove-orphans >/dev/null 2>&1 || true
+  # shellcheck disable=SC2086
+  compose "$mode" up -d --build $SERVICES
+
+  for target in "${TARGETS[@]}"; do
+    container="${target%%|*}"
+    url="${target#*|}"
+    wait_ready "$container" "$url"
+
+    echo "--> $mode $container $url (warm-up $WARMUP)"
+    run_hey "$container" "$url" "$WARMUP" 20 >/dev/null
+
+    for concurrency in $CONCURRENCY_LEVELS; do
+      marker=$(mktemp)
+      samples=$(mktemp)
+      sample_container "$container" "$marker" "$samples" &
+      sampler=$!
+
+      report=$(run_hey "$container" "$url" "$DURATION" "$concurrency")
+
+      rm -f "$marker"
+      wait "$sampler" || true
+
+      rps=$(echo "$report" | awk '/Requests\/sec:/ {print $2}')
+      p50=$(echo "$report" | awk '/ 50% in / {printf "%.1f", $3 * 1000}')
+      p99=$(echo "$report" | awk '/ 99% in / {printf "%.1f", $3 * 1000}')
+      errors=$(echo "$report" | awk '
+        /Status code distribution:/ { codes = 1; next }
+        /Error distribution:/ { codes = 0; failures = 1; next }
+        codes && /\[[0-9]+\]/ { code = $1; gsub(/[][]/, "", code); if (code !~ /^2/) sum += $2 }
+        failures && /\[[0-9]+\]/ { count = $1; gsub(/[][]/, "", count); sum += count }
+        END { print sum + 0 }')
+      peak_mem=$(awk '{print $1}' "$samples" | to_mib | sort -n | tail -1)
+      peak_threads=$(awk '{print $2}' "$samples" | sort -n | tail -1)
+      rm -f "$samples"
+
+      echo "$mode,$container,$url,$concurrency,$rps,$p50,$p99,$errors,$peak_mem,$peak_threads" | tee -a "$RESULTS"
+    done
+  done
+
+  compose "$mode" down --remove-orphans
+done
+
+echo "Results written to $RESULTS"
@@ -0,0 +1,52 @@
+-- Compares insert throughput and primary-key index size for RANDOM (UUIDv4) and
+-- TIME_ORDERED (UUIDv7) identifiers, stored as VARCHAR(255) like every EHub @Id.
+--
+-- Usage (against the local event database from docker-compose):
+--   psql -h localhost -p 5434 -U postgres -d ehub_event_db -v rows=1000000 -f benchmark/uuid-index-benchmark.sql
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+\timing on
+
+DROP TABLE IF EXISTS uuid_bench_random;
+DROP TABLE IF EXISTS uuid_bench_time_ordered;
+CREATE TABLE uuid_bench_random (id VARCHAR(255) PRIMARY KEY, payload TEXT);
+CREATE TABLE uuid_bench_time_ordered (id VARCHAR(255) PRIMARY KEY, payload TEXT);
+
+-- Mirrors UuidService#generateTimeOrderedUuid: 4096 IDs per millisecond via the counter in rand_a.
+CREATE FUNCTION pg_temp.uuid_v7(base_ms BIGINT, seq BIGINT) RETURNS TEXT
+LANGUAGE sql VOLATILE AS $$
+    SELECT substr(h, 1, 8) || '-' || substr(h, 9, 4) || '-' || substr(h, 13, 4) || '-'
+        || substr(h, 17, 4) || '-' || substr(h, 21, 12)
+    FROM (
+        SELECT lpad(to_hex(base_ms + seq / 4096), 12, '0')
+            || '7' || lpad(to_hex(seq % 4096), 3, '0')
+            || to_hex(8 + (random() * 3)::INT)
+            || substr(md5(random()::TEXT), 1, 15) AS h
+    ) AS parts
+$$;
+
+\echo 'Inserting' :rows 'random (v4) identifiers'
+INSERT INTO uuid_bench_random (id, payload)
+SELECT gen_random_uuid()::TEXT, repeat('x', 64)
+FROM generate_series(1, :rows);
+
+\echo 'Inserting' :rows 'time-ordered (v7) identifiers'
+INSERT INTO uuid_bench_time_ordered (id, payload)
+SELECT pg_temp.uuid_v7((extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT, s), repeat('x', 64)
+FROM generate_series(1, :rows) AS s;
+
+\timing off
+SELECT 'RANDOM' AS mode,
+       pg_size_pretty(pg_relation_size('uuid_bench_random_pkey')) AS index_size,
+       pg_size_pretty(pg_relation_size('uuid_bench_random')) AS table_size
+UNION ALL
+SELECT 'TIME_ORDERED',
+       pg_size_pretty(pg_relation_size('uuid_bench_time_ordered_pkey')),
+       pg_size_pretty(pg_relation_size('uuid_bench_time_ordered'));
+
+DROP TABLE uuid_bench_random;
+DROP TABLE uuid_bench_time_ordered;
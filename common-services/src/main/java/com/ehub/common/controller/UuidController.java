@@ -4,8 +4,11 @@ import com.ehub.common.service.UuidService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/common/uuid")
 @RequiredArgsConstructor
@@ -17,4 +20,9 @@ public class UuidController {
     public String getUuid() {
         return uuidService.generateUuid();
     }
+
+    @GetMapping("/batch")
+    public List<String> getUuidBatch(@RequestParam(defaultValue = "100") int count) {
+        return uuidService.generateUuids(count);
+    }
 }
@@ -1,11 +1,65 @@
 package com.ehub.common.service;
 
+import com.ehub.common.util.UuidMode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class UuidService {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long TIMESTAMP_MASK = 0xFFFFFFFFFFFFL;
+    private static final long SEQUENCE_MASK = 0xFFFL;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // Packed (unix millis << 12 | sequence) of the last issued time-ordered ID
+    private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    @Value("${application.uuid.mode:TIME_ORDERED}")
+    private UuidMode mode;
+
     public String generateUuid() {
-        return UUID.randomUUID().toString();
+        return mode == UuidMode.TIME_ORDERED ? generateTimeOrderedUuid() : UUID.randomUUID().toString();
+    }
+
+    public List<String> generateUuids(int count) {
+        int size = Math.max(1, Math.min(count, MAX_BATCH_SIZE));
+        List<String> uuids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            uuids.add(generateUuid());
+        }
+        return uuids;
+    }
+
+    // UUIDv7 layout: 48-bit unix millis | version 7 | 12-bit per-millisecond counter | variant | 62 random bits.
+    // A counter overflow carries into the timestamp, so IDs issued by this instance are strictly increasing.
+    private String generateTimeOrderedUuid() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long timestamp = (timestampAndSequence >>> SEQUENCE_BITS) & TIMESTAMP_MASK;
+        long sequence = timestampAndSequence & SEQUENCE_MASK;
+
+        long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+        long leastSigBits = (secureRandom.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    private long nextTimestampAndSequence() {
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long now = System.currentTimeMillis() << SEQUENCE_BITS;
+            long next = now > last ? now : last + 1;
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
     }
 }
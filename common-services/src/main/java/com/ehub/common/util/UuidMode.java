@@ -0,0 +1,6 @@
+package com.ehub.common.util;
+
+public enum UuidMode {
+    RANDOM,
+    TIME_ORDERED
+}
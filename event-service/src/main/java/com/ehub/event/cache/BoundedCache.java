@@ -0,0 +1,166 @@
+package com.ehub.event.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class BoundedCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries;
+    // Loads in flight, so concurrent misses on one key wait for a single loader
+    private final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+    // Keys of the stored entries under each tag, updated under the same lock as the entries so it never
+    // misses a stored entry or outlives an evicted one
+    private final Function<V, ? extends Collection<?>> tagsOf;
+    private final Map<Object, Set<K>> keysByTag = new HashMap<>();
+
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private long invalidationStamp;
+
+    public BoundedCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, value -> List.of());
+    }
+
+    public BoundedCache(int maxEntries, Duration ttl, Function<V, ? extends Collection<?>> tagsOf) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.tagsOf = tagsOf;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= BoundedCache.this.maxEntries) {
+                    return false;
+                }
+                untag(eldest.getKey(), eldest.getValue().value());
+                return true;
+            }
+        };
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        long stamp;
+        CompletableFuture<V> load;
+        CompletableFuture<V> pending;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+                return entry.value();
+            }
+            stamp = invalidationStamp;
+            pending = loading.get(key);
+            load = pending == null ? new CompletableFuture<>() : null;
+            if (load != null) {
+                loading.put(key, load);
+            }
+        }
+
+        if (pending != null) {
+            return await(pending);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                loading.remove(key, load);
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+
+        synchronized (this) {
+            loading.remove(key, load);
+            if (value != null && stamp == invalidationStamp) {
+                store(key, value);
+            }
+        }
+        load.complete(value);
+        return value;
+    }
+
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && entry.expiresAt() > System.currentTimeMillis() ? entry.value() : null;
+    }
+
+    public synchronized void put(K key, V value) {
+        store(key, value);
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidationStamp++;
+        remove(key);
+    }
+
+    // Always counts as an invalidation, even with no keys, so loads already in flight are not cached
+    public synchronized void invalidate(Collection<K> keys) {
+        invalidationStamp++;
+        keys.forEach(this::remove);
+    }
+
+    // Drops every entry whose value carried the tag when it was stored
+    public synchronized void invalidateTagged(Object tag) {
+        invalidationStamp++;
+        Set<K> keys = keysByTag.remove(tag);
+        if (keys != null) {
+            List.copyOf(keys).forEach(this::remove);
+        }
+    }
+
+    public synchronized void clear() {
+        invalidationStamp++;
+        entries.clear();
+        loading.clear();
+        keysByTag.clear();
+    }
+
+    private void store(K key, V value) {
+        Entry<V> previous = entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+        if (previous != null) {
+            untag(key, previous.value());
+        }
+        tagsOf.apply(value).forEach(tag -> keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key));
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            untag(key, removed.value());
+        }
+        // Later readers start a fresh load instead of joining one that may predate the write
+        loading.remove(key);
+    }
+
+    private void untag(K key, V value) {
+        tagsOf.apply(value).forEach(tag -> keysByTag.computeIfPresent(tag, (t, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+
+    private static <V> V await(CompletableFuture<V> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.ehub.event.cache;
+
+import com.ehub.event.util.AfterCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "event-service:cache-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+
+    public void register(String cacheName, Consumer<String> handler) {
+        handlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    public void invalidate(String cacheName, String key) {
+        // Defer until commit so other replicas never reload the pre-write state
+        AfterCommit.run(() -> broadcast(cacheName, key));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 2);
+        if (parts.length == 2) {
+            applyLocally(parts[0], parts[1]);
+        }
+    }
+
+    private void broadcast(String cacheName, String key) {
+        applyLocally(cacheName, key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, cacheName + ":" + key);
+        } catch (Exception e) {
+            // Other replicas keep serving the entry until it expires
+            log.error("Failed to broadcast cache invalidation for {}:{}", cacheName, key, e);
+            meterRegistry.counter("ehub.cache.invalidation.failures", "cache", cacheName).increment();
+        }
+    }
+
+    private void applyLocally(String cacheName, String key) {
+        handlers.getOrDefault(cacheName, List.of()).forEach(handler -> handler.accept(key));
+    }
+}
@@ -0,0 +1,44 @@
+package com.ehub.event.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class EventCache {
+
+    static final String NAME = "event";
+
+    // Serialized JSON, so entries share no state with the session that loaded them or with each other
+    private final BoundedCache<String, byte[]> eventsById;
+    // Short codes never change, so this mapping needs no invalidation
+    private final BoundedCache<String, String> eventIdsByShortCode;
+    private final CacheInvalidationBus invalidationBus;
+
+    public EventCache(CacheInvalidationBus invalidationBus,
+                      @Value("${application.cache.event.max-entries:2000}") int maxEntries,
+                      @Value("${application.cache.event.ttl-seconds:300}") long ttlSeconds) {
+        this.invalidationBus = invalidationBus;
+        this.eventsById = new BoundedCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+        this.eventIdsByShortCode = new BoundedCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+        invalidationBus.register(NAME, eventsById::invalidate);
+    }
+
+    public byte[] get(String eventId, Supplier<byte[]> loader) {
+        return eventsById.get(eventId, loader);
+    }
+
+    public String getEventIdByShortCode(String shortCode) {
+        return eventIdsByShortCode.getIfPresent(shortCode);
+    }
+
+    public void putShortCode(String shortCode, String eventId) {
+        eventIdsByShortCode.put(shortCode, eventId);
+    }
+
+    public void invalidate(String eventId) {
+        invalidationBus.invalidate(NAME, eventId);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ehub.event.cache;
+
+import com.ehub.event.dto.EventSummaryResponse;
+import com.ehub.event.dto.ParticipantDashboardResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class ParticipantDashboardCache {
+
+    private static final String NAME = "dashboard";
+    private static final String KEY_SEPARATOR = ",";
+    private static final int KEYS_PER_MESSAGE = 1000;
+
+    // Serialized JSON like EventCache, tagged with the events it shows so the cache indexes users by event
+    private final BoundedCache<String, Dashboard> dashboardsByUser;
+    private final CacheInvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+
+    public ParticipantDashboardCache(CacheInvalidationBus invalidationBus,
+                                     ObjectMapper objectMapper,
+                                     @Value("${application.cache.dashboard.max-entries:10000}") int maxEntries,
+                                     @Value("${application.cache.dashboard.ttl-seconds:120}") long ttlSeconds) {
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+        this.dashboardsByUser = new BoundedCache<>(maxEntries, Duration.ofSeconds(ttlSeconds), Dashboard::eventIds);
+        invalidationBus.register(NAME, userIds -> dashboardsByUser.invalidate(List.of(userIds.split(KEY_SEPARATOR))));
+        // Dashboards embed event summaries; each replica drops only the dashboards it cached with that event
+        invalidationBus.register(EventCache.NAME, dashboardsByUser::invalidateTagged);
+    }
+
+    public byte[] get(String userId, Supplier<ParticipantDashboardResponse> loader) {
+        return dashboardsByUser.get(userId, () -> serialize(userId, loader.get())).json();
+    }
+
+    public void invalidate(String userId) {
+        invalidationBus.invalidate(NAME, userId);
+    }
+
+    // One bus message per batch of users rather than per user, so a bulk import stays a handful of publishes
+    public void invalidate(Collection<String> userIds) {
+        List<String> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += KEYS_PER_MESSAGE) {
+            List<String> batch = ids.subList(from, Math.min(from + KEYS_PER_MESSAGE, ids.size()));
+            invalidationBus.invalidate(NAME, String.join(KEY_SEPARATOR, batch));
+        }
+    }
+
+    private Dashboard serialize(String userId, ParticipantDashboardResponse dashboard) {
+        List<ParticipantDashboardResponse.RegistrationEntry> registrations =
+                dashboard.getRegistrations() == null ? List.of() : dashboard.getRegistrations();
+        Set<String> eventIds = registrations.stream()
+                .map(ParticipantDashboardResponse.RegistrationEntry::getEvent)
+                .filter(Objects::nonNull)
+                .map(EventSummaryResponse::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        try {
+            return new Dashboard(objectMapper.writeValueAsBytes(dashboard), eventIds);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize dashboard for user " + userId, e);
+        }
+    }
+
+    private record Dashboard(byte[] json, Set<String> eventIds) {
+    }
+}
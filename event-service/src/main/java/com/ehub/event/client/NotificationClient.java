@@ -1,28 +1,66 @@
 package com.ehub.event.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 public class NotificationClient {
 
+    // Recipients accepted per /send-bulk request by the notification service
+    public static final int MAX_BULK_RECIPIENTS = 1000;
+
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${application.notification-service.url}")
     private String baseUrl;
 
+    @Value("${application.notification-service.bulk-url}")
+    private String bulkUrl;
+
+    private Timer sendAlertTimer;
+    private Timer sendBulkTimer;
+
+    @PostConstruct
+    public void init() {
+        sendAlertTimer = timer("send-alert");
+        sendBulkTimer = timer("send-bulk");
+    }
+
     public void sendEmail(String to, String subject, String message) {
         Map<String, String> emailRequest = new HashMap<>();
         emailRequest.put("to", to);
         emailRequest.put("subject", subject);
         emailRequest.put("message", message);
         
-        restTemplate.postForEntity(baseUrl, emailRequest, String.class);
+        sendAlertTimer.record(() -> restTemplate.postForEntity(baseUrl, emailRequest, String.class));
+    }
+
+    // Returns the recipients the notification service rejected as invalid; the rest are accepted for delivery
+    @SuppressWarnings("unchecked")
+    public List<String> sendBulkEmail(List<String> recipients, String subject, String message) {
+        Map<String, Object> response = sendBulkTimer.record(() -> restTemplate.postForObject(bulkUrl,
+                Map.of("recipients", recipients, "subject", subject, "message", message), Map.class));
+        Object rejected = response == null ? null : response.get("rejected");
+        return rejected instanceof List<?> list ? (List<String>) list : List.of();
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("ehub.client.calls")
+                .description("Latency of outbound calls per client operation")
+                .tag("client", "notification-service")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
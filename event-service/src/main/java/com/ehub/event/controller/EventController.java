@@ -1,13 +1,22 @@
 package com.ehub.event.controller;
 
 import com.ehub.event.dto.*;
+import com.ehub.event.service.BulkImportService;
 import com.ehub.event.service.EventService;
+import com.ehub.event.service.ParticipantDashboardService;
+import com.ehub.event.util.EventStatus;
+import com.ehub.event.util.ImportFormat;
 import com.ehub.event.util.MessageKeys;
 import com.ehub.event.util.RegistrationStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -16,6 +25,8 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final BulkImportService bulkImportService;
+    private final ParticipantDashboardService participantDashboardService;
 
     @GetMapping("/organizer/{organizerId}")
     public ResponseEntity<List<EventResponse>> getEventsByOrganizer(@PathVariable String organizerId) {
@@ -27,19 +38,35 @@ public class EventController {
         return ResponseEntity.ok(eventService.getEventsByParticipant(userId));
     }
 
+    @GetMapping("/participant/{userId}/dashboard")
+    public ResponseEntity<byte[]> getParticipantDashboard(@PathVariable String userId) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(participantDashboardService.getDashboard(userId));
+    }
+
     @GetMapping
     public ResponseEntity<List<EventResponse>> getAllEvents() {
         return ResponseEntity.ok(eventService.getAllEvents());
     }
 
+    @GetMapping("/catalog")
+    public ResponseEntity<CursorPageResponse<EventSummaryResponse>> getEventCatalog(
+            @RequestParam(required = false) EventStatus status,
+            @RequestParam(required = false) Boolean virtual,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "24") int size) {
+        return ResponseEntity.ok(eventService.getEventCatalog(status, virtual, from, to, cursor, size));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponse> getEventById(@PathVariable String id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    public ResponseEntity<byte[]> getEventById(@PathVariable String id) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(eventService.getEventById(id));
     }
 
     @GetMapping("/code/{shortCode}")
-    public ResponseEntity<EventResponse> getEventByShortCode(@PathVariable String shortCode) {
-        return ResponseEntity.ok(eventService.getEventByShortCode(shortCode));
+    public ResponseEntity<byte[]> getEventByShortCode(@PathVariable String shortCode) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(eventService.getEventByShortCode(shortCode));
     }
 
     @PostMapping
@@ -72,6 +99,16 @@ public class EventController {
         return ResponseEntity.ok(MessageKeys.PROBLEM_ADDED_SUCCESS.getMessage());
     }
 
+    @PostMapping("/{eventId}/problemstatements/import")
+    public ResponseEntity<BulkImportResponse> importProblemStatements(
+            @PathVariable String eventId,
+            @RequestParam String requesterId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importProblemStatements(
+                eventId, requesterId, ImportFormat.fromContentType(contentType), body));
+    }
+
     @PostMapping("/{eventId}/problemstatements")
     public ResponseEntity<String> addProblemStatement(
             @PathVariable String eventId,
@@ -110,6 +147,17 @@ public class EventController {
         return ResponseEntity.ok(MessageKeys.REGISTRATION_SUCCESS.getMessage());
     }
 
+    @PostMapping("/{eventId}/registrations/import")
+    public ResponseEntity<BulkImportResponse> importRegistrations(
+            @PathVariable String eventId,
+            @RequestParam String requesterId,
+            @RequestParam(defaultValue = "APPROVED") RegistrationStatus status,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(bulkImportService.importRegistrations(
+                eventId, requesterId, status, ImportFormat.fromContentType(contentType), body));
+    }
+
     @GetMapping("/{eventId}/registrations")
     public ResponseEntity<List<RegistrationResponse>> getEventRegistrations(@PathVariable String eventId) {
         return ResponseEntity.ok(eventService.getEventRegistrations(eventId));
@@ -0,0 +1,29 @@
+package com.ehub.event.controller;
+
+import com.ehub.event.dto.LeaderboardEntry;
+import com.ehub.event.dto.LeaderboardResponse;
+import com.ehub.event.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/events/{eventId}/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @PathVariable String eventId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "25") int limit) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(eventId, offset, limit));
+    }
+
+    @GetMapping("/teams/{teamId}")
+    public ResponseEntity<LeaderboardEntry> getTeamRank(@PathVariable String eventId, @PathVariable String teamId) {
+        return ResponseEntity.ok(leaderboardService.getTeamRank(eventId, teamId));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ehub.event.controller;
+
+import com.ehub.event.stream.LiveUpdateHub;
+import com.ehub.event.stream.LiveUpdatePublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/events/stream")
+@RequiredArgsConstructor
+public class LiveUpdateController {
+
+    private static final int MAX_EVENT_TOPICS = 50;
+
+    private final LiveUpdateHub liveUpdateHub;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(required = false) List<String> eventIds,
+            @RequestParam(required = false) String userId) {
+        List<String> topics = new ArrayList<>();
+        if (eventIds != null) {
+            if (eventIds.size() > MAX_EVENT_TOPICS) {
+                throw new RuntimeException("A stream can follow at most " + MAX_EVENT_TOPICS + " events.");
+            }
+            eventIds.forEach(eventId -> topics.add(LiveUpdatePublisher.eventTopic(eventId)));
+        }
+        if (userId != null && !userId.isBlank()) {
+            topics.add(LiveUpdatePublisher.userTopic(userId));
+        }
+        if (topics.isEmpty()) {
+            throw new RuntimeException("Subscribe to at least one eventId or a userId.");
+        }
+        return liveUpdateHub.subscribe(topics);
+    }
+}
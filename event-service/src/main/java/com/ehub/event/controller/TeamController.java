@@ -28,6 +28,14 @@ public class TeamController {
         return ResponseEntity.ok(teamService.getTeamsByEvent(eventId));
     }
 
+    @GetMapping("/{eventId}/page")
+    public ResponseEntity<CursorPageResponse<TeamResponse>> getTeamsByEventPage(
+            @PathVariable String eventId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(teamService.getTeamsByEventPage(eventId, after, size));
+    }
+
     @GetMapping("/code/{shortCode}")
     public ResponseEntity<TeamResponse> getTeamByShortCode(@PathVariable String shortCode) {
         return ResponseEntity.ok(teamService.getTeamByShortCode(shortCode));
@@ -0,0 +1,19 @@
+package com.ehub.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportResponse {
+    private int received;
+    private int imported;
+    private int duplicates;
+    private int invalid;
+    private List<String> errors;
+}
@@ -0,0 +1,32 @@
+package com.ehub.event.dto;
+
+import com.ehub.event.util.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// Field order is bound by the constructor expression in EventRepository#findCatalogPage
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSummaryResponse {
+    private String id;
+    private String shortCode;
+    private String name;
+    private String summary;
+    private String theme;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private LocalDateTime registrationStartDate;
+    private LocalDateTime registrationEndDate;
+    private String venue;
+    private boolean isVirtual;
+    private String location;
+    private Integer maxParticipants;
+    private Integer teamSize;
+    private EventStatus status;
+    private String organizerId;
+}
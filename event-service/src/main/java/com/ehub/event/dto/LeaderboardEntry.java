@@ -0,0 +1,20 @@
+package com.ehub.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntry {
+    private long rank;
+    private String teamId;
+    private String teamName;
+    private String shortCode;
+    private Double score;
+    private LocalDateTime submissionTime;
+}
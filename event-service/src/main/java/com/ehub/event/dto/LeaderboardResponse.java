@@ -0,0 +1,17 @@
+package com.ehub.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardResponse {
+    private String eventId;
+    private long totalTeams;
+    private List<LeaderboardEntry> entries;
+}
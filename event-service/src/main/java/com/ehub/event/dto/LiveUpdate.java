@@ -0,0 +1,19 @@
+package com.ehub.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LiveUpdate {
+    private String topic;
+    private String type;
+    private Map<String, Object> payload;
+    private LocalDateTime timestamp;
+}
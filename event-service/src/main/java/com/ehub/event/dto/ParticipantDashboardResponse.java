@@ -0,0 +1,46 @@
+package com.ehub.event.dto;
+
+import com.ehub.event.util.RegistrationStatus;
+import com.ehub.event.util.TeamMemberStatus;
+import com.ehub.event.util.TeamRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantDashboardResponse {
+    private List<RegistrationEntry> registrations;
+    private List<MembershipEntry> teams;
+    private List<MembershipEntry> pendingInvitations;
+    private List<MembershipEntry> pendingRequests;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RegistrationEntry {
+        private String registrationId;
+        private RegistrationStatus status;
+        private LocalDateTime registrationTime;
+        private EventSummaryResponse event;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MembershipEntry {
+        private String teamId;
+        private String teamName;
+        private String teamShortCode;
+        private String eventId;
+        private TeamRole role;
+        private TeamMemberStatus status;
+    }
+}
@@ -53,6 +53,15 @@ public class Event {
     private Integer maxParticipants;
     private Integer teamSize;
 
+    // Maintained only by the conditional updates in EventRepository, never by entity saves
+    @Builder.Default
+    @Column(updatable = false)
+    private Integer approvedCount = 0;
+
+    @Builder.Default
+    @Column(updatable = false)
+    private Integer pendingCount = 0;
+
     @Enumerated(EnumType.STRING)
     private EventStatus status;
 
@@ -36,6 +36,15 @@ public class Team {
     @Column(nullable = false)
     private String leaderId; // User ID of the leader
 
+    // Maintained only by the conditional updates in TeamRepository, never by entity saves
+    @Builder.Default
+    @Column(updatable = false)
+    private Integer memberCount = 0;
+
+    @Builder.Default
+    @Column(updatable = false)
+    private Integer pendingInviteCount = 0;
+
     @OneToMany(mappedBy = "team", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<TeamMember> members = new ArrayList<>();
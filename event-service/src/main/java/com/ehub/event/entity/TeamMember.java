@@ -21,6 +21,10 @@ public class TeamMember {
     @JoinColumn(name = "team_id")
     private Team team;
 
+    // Copied from the team so (event_id, user_id) can be unique among ACCEPTED members
+    @Column(name = "event_id")
+    private String eventId;
+
     @Column(nullable = false)
     private String userId;
 
@@ -0,0 +1,52 @@
+package com.ehub.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Set-wise inserts: one statement per chunk via unnest() arrays, so the row count
+// returned is exact even when ON CONFLICT skips duplicates
+@Repository
+@RequiredArgsConstructor
+public class BulkInsertRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertRegistrations(String eventId, String status, LocalDateTime registrationTime,
+                                   List<String> ids, List<String> userIds,
+                                   List<String> usernames, List<String> userEmails) {
+        String sql = "INSERT INTO event_registrations " +
+                     "(id, event_id, user_id, username, user_email, status, registration_time) " +
+                     "SELECT r.id, ?, r.user_id, r.username, r.user_email, ?, ? " +
+                     "FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[]) " +
+                     "AS r(id, user_id, username, user_email) " +
+                     "ON CONFLICT (event_id, user_id) DO NOTHING";
+
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setString(1, eventId);
+            ps.setString(2, status);
+            ps.setTimestamp(3, Timestamp.valueOf(registrationTime));
+            ps.setArray(4, ps.getConnection().createArrayOf("varchar", ids.toArray()));
+            ps.setArray(5, ps.getConnection().createArrayOf("varchar", userIds.toArray()));
+            ps.setArray(6, ps.getConnection().createArrayOf("varchar", usernames.toArray()));
+            ps.setArray(7, ps.getConnection().createArrayOf("varchar", userEmails.toArray()));
+        });
+    }
+
+    public int insertProblemStatements(String eventId, List<String> ids, List<String> statementIds, List<String> statements) {
+        String sql = "INSERT INTO problem_statements (id, statement_id, statement, event_id) " +
+                     "SELECT p.id, p.statement_id, p.statement, ? " +
+                     "FROM unnest(?::varchar[], ?::varchar[], ?::text[]) AS p(id, statement_id, statement)";
+
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setString(1, eventId);
+            ps.setArray(2, ps.getConnection().createArrayOf("varchar", ids.toArray()));
+            ps.setArray(3, ps.getConnection().createArrayOf("varchar", statementIds.toArray()));
+            ps.setArray(4, ps.getConnection().createArrayOf("text", statements.toArray()));
+        });
+    }
+}
@@ -1,11 +1,61 @@
 package com.ehub.event.repository;
 
+import com.ehub.event.dto.EventSummaryResponse;
 import com.ehub.event.entity.Event;
+import com.ehub.event.util.EventStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, String> {
     List<Event> findByOrganizerId(String organizerId);
     Optional<Event> findByShortCode(String shortCode);
+    List<EventScheduleView> findByStatusIsNullOrStatusNot(EventStatus status);
+
+    // Summary columns only: no TEXT description, no prize/rule/problem collections
+    @Query("select new com.ehub.event.dto.EventSummaryResponse(" +
+           "e.id, e.shortCode, e.name, substring(e.description, 1, 200), e.theme, e.startDate, e.endDate, " +
+           "e.registrationStartDate, e.registrationEndDate, e.venue, e.isVirtual, e.location, " +
+           "e.maxParticipants, e.teamSize, e.status, e.organizerId) " +
+           "from Event e " +
+           "where (:status is null or e.status = :status) " +
+           "and (:virtual is null or e.isVirtual = :virtual) " +
+           "and (:from is null or e.startDate >= :from) " +
+           "and (:to is null or e.startDate < :to) " +
+           "and (:afterStart is null or e.startDate > :afterStart " +
+           "     or (e.startDate = :afterStart and e.id > :afterId)) " +
+           "order by e.startDate, e.id")
+    List<EventSummaryResponse> findCatalogPage(@Param("status") EventStatus status,
+                                               @Param("virtual") Boolean virtual,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("afterStart") LocalDateTime afterStart,
+                                               @Param("afterId") String afterId,
+                                               Pageable pageable);
+
+    // Admits pending registrations unless the approved seats are already full
+    @Modifying
+    @Query(value = "update events set pending_count = coalesce(pending_count, 0) + :count " +
+                   "where id = :eventId " +
+                   "and (max_participants is null or coalesce(approved_count, 0) < max_participants)",
+           nativeQuery = true)
+    int admitPendingRegistrations(@Param("eventId") String eventId, @Param("count") int count);
+
+    // Applies counter deltas; a positive approved delta only succeeds while within capacity
+    @Modifying
+    @Query(value = "update events set " +
+                   "approved_count = coalesce(approved_count, 0) + :approvedDelta, " +
+                   "pending_count = coalesce(pending_count, 0) + :pendingDelta " +
+                   "where id = :eventId " +
+                   "and (:approvedDelta <= 0 or max_participants is null " +
+                   "     or coalesce(approved_count, 0) + :approvedDelta <= max_participants)",
+           nativeQuery = true)
+    int adjustRegistrationCounts(@Param("eventId") String eventId,
+                                 @Param("approvedDelta") int approvedDelta,
+                                 @Param("pendingDelta") int pendingDelta);
 }
@@ -0,0 +1,16 @@
+package com.ehub.event.repository;
+
+import com.ehub.event.util.EventStatus;
+
+import java.time.LocalDateTime;
+
+public interface EventScheduleView {
+    String getId();
+    LocalDateTime getRegistrationStartDate();
+    LocalDateTime getRegistrationEndDate();
+    LocalDateTime getStartDate();
+    LocalDateTime getEndDate();
+    LocalDateTime getResultsDate();
+    Boolean getJudging();
+    EventStatus getStatus();
+}
@@ -0,0 +1,41 @@
+package com.ehub.event.repository;
+
+import com.ehub.event.entity.OutboxMessage;
+import com.ehub.event.util.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // SKIP LOCKED lets several event-service replicas drain the outbox without double delivery.
+    // A SENDING row whose lease has run out belongs to a relay that died or hung mid-batch; claiming it again
+    // counts as another attempt.
+    @Query(value = "SELECT * FROM notification_outbox " +
+                   "WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxMessage> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Only rows still under this relay's lease; an expired lease may have been claimed by another replica
+    @Modifying
+    @Query("delete from OutboxMessage m where m.id in :ids and m.status = :status and m.nextAttemptAt = :leaseUntil")
+    int deleteClaimed(@Param("ids") Collection<Long> ids,
+                      @Param("status") OutboxStatus status,
+                      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update OutboxMessage m set m.status = :newStatus, " +
+           "m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError " +
+           "where m.id = :id and m.status = :status and m.nextAttemptAt = :leaseUntil")
+    int releaseClaimed(@Param("id") Long id,
+                       @Param("status") OutboxStatus status,
+                       @Param("leaseUntil") LocalDateTime leaseUntil,
+                       @Param("newStatus") OutboxStatus newStatus,
+                       @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                       @Param("lastError") String lastError);
+}
@@ -4,4 +4,5 @@ import com.ehub.event.entity.ProblemStatement;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ProblemStatementRepository extends JpaRepository<ProblemStatement, String> {
+    long countByEventId(String eventId);
 }
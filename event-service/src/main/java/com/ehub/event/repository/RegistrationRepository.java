@@ -1,8 +1,14 @@
 package com.ehub.event.repository;
 
 import com.ehub.event.entity.Registration;
+import com.ehub.event.util.RegistrationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +16,39 @@ import java.util.Optional;
 public interface RegistrationRepository extends JpaRepository<Registration, String> {
     List<Registration> findByEventId(String eventId);
     List<Registration> findByUserId(String userId);
+
+    @Query("select r from Registration r join fetch r.event where r.userId = :userId order by r.registrationTime desc")
+    List<Registration> findWithEventByUserId(@Param("userId") String userId);
     Optional<Registration> findByEventIdAndUserId(String eventId, String userId);
     boolean existsByEventIdAndUserId(String eventId, String userId);
+
+    @Query("select distinct r.userEmail from Registration r " +
+           "where r.eventId = :eventId and r.userEmail is not null and r.userEmail > :after " +
+           "order by r.userEmail")
+    List<String> findParticipantEmailsAfter(@Param("eventId") String eventId, @Param("after") String after, Pageable pageable);
+
+    // Returns 0 when the user already holds a registration for the event
+    @Modifying
+    @Query(value = "insert into event_registrations " +
+                   "(id, event_id, user_id, username, user_email, status, registration_time) " +
+                   "values (:id, :eventId, :userId, :username, :userEmail, :status, :registrationTime) " +
+                   "on conflict (event_id, user_id) do nothing",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id,
+                       @Param("eventId") String eventId,
+                       @Param("userId") String userId,
+                       @Param("username") String username,
+                       @Param("userEmail") String userEmail,
+                       @Param("status") String status,
+                       @Param("registrationTime") LocalDateTime registrationTime);
+
+    @Modifying
+    @Query("update Registration r set r.status = :status where r.id = :id and r.status = :expected")
+    int compareAndSetStatus(@Param("id") String id,
+                            @Param("expected") RegistrationStatus expected,
+                            @Param("status") RegistrationStatus status);
+
+    @Modifying
+    @Query("delete from Registration r where r.id = :id and r.status = :expected")
+    int deleteIfStatus(@Param("id") String id, @Param("expected") RegistrationStatus expected);
 }
@@ -3,13 +3,29 @@ package com.ehub.event.repository;
 import com.ehub.event.entity.TeamMember;
 import com.ehub.event.util.TeamMemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
 public interface TeamMemberRepository extends JpaRepository<TeamMember, String> {
     List<TeamMember> findByUserId(String userId);
+
+    @Query("select m from TeamMember m join fetch m.team where m.userId = :userId")
+    List<TeamMember> findWithTeamByUserId(@Param("userId") String userId);
     List<TeamMember> findByTeamId(String teamId);
     Optional<TeamMember> findByTeamIdAndUserId(String teamId, String userId);
     boolean existsByTeamIdAndUserId(String teamId, String userId);
-    boolean existsByTeamEventIdAndUserIdAndStatus(String eventId, String userId, TeamMemberStatus status);
+    boolean existsByEventIdAndUserIdAndStatus(String eventId, String userId, TeamMemberStatus status);
+
+    @Modifying
+    @Query("update TeamMember m set m.status = :status where m.id = :id and m.status = :expected")
+    int compareAndSetStatus(@Param("id") String id,
+                            @Param("expected") TeamMemberStatus expected,
+                            @Param("status") TeamMemberStatus status);
+
+    @Modifying
+    @Query("delete from TeamMember m where m.id = :id and m.status = :expected")
+    int deleteIfStatus(@Param("id") String id, @Param("expected") TeamMemberStatus expected);
 }
@@ -1,7 +1,12 @@
 package com.ehub.event.repository;
 
 import com.ehub.event.entity.Team;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +14,42 @@ public interface TeamRepository extends JpaRepository<Team, String> {
     List<Team> findByEventId(String eventId);
     Optional<Team> findByEventIdAndLeaderId(String eventId, String leaderId);
     Optional<Team> findByShortCode(String shortCode);
+
+    @Query("select t from Team t left join fetch t.members where t.eventId = :eventId order by t.id")
+    List<Team> findWithMembersByEventId(@Param("eventId") String eventId);
+
+    // Keyset page of ids first, so the member fetch-join below is never paginated in memory
+    @Query("select t.id from Team t where t.eventId = :eventId and t.id > :afterId order by t.id")
+    List<String> findIdsByEventIdAfter(@Param("eventId") String eventId, @Param("afterId") String afterId, Pageable pageable);
+
+    @Query("select t from Team t left join fetch t.members where t.id in :ids order by t.id")
+    List<Team> findWithMembersByIdIn(@Param("ids") Collection<String> ids);
+
+    // Invites hold a seat, so accepted + invited must stay within the event's team size
+    @Modifying
+    @Query(value = "update teams t set pending_invite_count = coalesce(t.pending_invite_count, 0) + 1 " +
+                   "from events e where t.id = :teamId and e.id = t.event_id " +
+                   "and (e.team_size is null " +
+                   "     or coalesce(t.member_count, 0) + coalesce(t.pending_invite_count, 0) < e.team_size)",
+           nativeQuery = true)
+    int reserveInviteSeat(@Param("teamId") String teamId);
+
+    // fromInvite = 1 converts a held seat; fromInvite = 0 needs a free one
+    @Modifying
+    @Query(value = "update teams t set member_count = coalesce(t.member_count, 0) + 1, " +
+                   "pending_invite_count = coalesce(t.pending_invite_count, 0) - :fromInvite " +
+                   "from events e where t.id = :teamId and e.id = t.event_id " +
+                   "and (e.team_size is null " +
+                   "     or coalesce(t.member_count, 0) + coalesce(t.pending_invite_count, 0) + 1 - :fromInvite <= e.team_size)",
+           nativeQuery = true)
+    int admitMember(@Param("teamId") String teamId, @Param("fromInvite") int fromInvite);
+
+    @Modifying
+    @Query(value = "update teams set member_count = coalesce(member_count, 0) + :memberDelta, " +
+                   "pending_invite_count = coalesce(pending_invite_count, 0) + :inviteDelta " +
+                   "where id = :teamId",
+           nativeQuery = true)
+    int adjustMemberCounts(@Param("teamId") String teamId,
+                           @Param("memberDelta") int memberDelta,
+                           @Param("inviteDelta") int inviteDelta);
 }
@@ -1,40 +1,152 @@
 package com.ehub.event.scheduler;
 
+import com.ehub.event.cache.EventCache;
 import com.ehub.event.entity.Event;
 import com.ehub.event.repository.EventRepository;
+import com.ehub.event.repository.EventScheduleView;
 import com.ehub.event.service.MissionNotificationService;
+import com.ehub.event.stream.LiveUpdatePublisher;
 import com.ehub.event.util.EventStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.stereotype.Component;
-import java.util.*;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class EventStatusScheduler {
 
+    private static final long RETRY_DELAY_SECONDS = 30;
+
     private final EventRepository eventRepository;
     private final MissionNotificationService missionNotificationService;
+    private final EventTimeline eventTimeline;
+    private final EventCache eventCache;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private volatile Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Gauge.builder("ehub.scheduler.timeline.size", eventTimeline, EventTimeline::size)
+                .description("Events waiting for their next status boundary")
+                .register(meterRegistry);
+        Counter scanned = scannedCounter("startup");
+
+        for (EventScheduleView view : eventRepository.findByStatusIsNullOrStatusNot(EventStatus.COMPLETED)) {
+            scanned.increment();
+            Event schedule = toSchedule(view);
+            if (view.getStatus() != schedule.calculateCurrentStatus()) {
+                // Boundary passed while the service was down; catch up immediately
+                eventTimeline.scheduleAt(view.getId(), LocalDateTime.now());
+            } else {
+                eventTimeline.track(schedule);
+            }
+        }
+
+        // Dedicated thread: the loop never returns, so it must not occupy Boot's bounded task pool shared with @Async
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("event-timeline-");
+        // Same check as Boot: the flag is ignored below JDK 21 instead of failing startup
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.execute(this::runTimeline);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
 
-    @Scheduled(fixedRate = 60000) // Run every minute
-    public void checkEventStatusTransitions() {
-        List<Event> events = eventRepository.findAll();
-        for (Event event : events) {
-            EventStatus currentActualStatus = event.calculateCurrentStatus();
-            EventStatus lastOfficialStatus = event.getStatus();
-
-            if (lastOfficialStatus == null || lastOfficialStatus != currentActualStatus) {
-                event.setStatus(currentActualStatus);
-                eventRepository.save(event);
-                
-                // Trigger transition actions
-                handleTransition(event, lastOfficialStatus, currentActualStatus);
+    private void runTimeline() {
+        worker = Thread.currentThread();
+        Counter scanned = scannedCounter("timeline");
+        Counter failures = Counter.builder("ehub.scheduler.failures")
+                .description("Status transitions that failed and were rescheduled")
+                .register(meterRegistry);
+        Timer cycle = Timer.builder("ehub.scheduler.cycle")
+                .description("Time to re-check one due event and apply its status transition")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        while (!Thread.currentThread().isInterrupted()) {
+            String eventId;
+            try {
+                eventId = eventTimeline.takeDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
+
+            scanned.increment();
+            long start = System.nanoTime();
+            try {
+                eventRepository.findById(eventId).ifPresent(this::checkEventStatusTransition);
+            } catch (Exception e) {
+                log.error("Failed to process status transition for event {}; retrying in {}s", eventId, RETRY_DELAY_SECONDS, e);
+                failures.increment();
+                eventTimeline.scheduleAt(eventId, LocalDateTime.now().plusSeconds(RETRY_DELAY_SECONDS));
+            } finally {
+                cycle.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void checkEventStatusTransition(Event event) {
+        EventStatus currentActualStatus = event.calculateCurrentStatus();
+        EventStatus lastOfficialStatus = event.getStatus();
+
+        if (lastOfficialStatus == null || lastOfficialStatus != currentActualStatus) {
+            event.setStatus(currentActualStatus);
+            eventRepository.save(event);
+            eventCache.invalidate(event.getId());
+
+            // Trigger transition actions
+            handleTransition(event, lastOfficialStatus, currentActualStatus);
         }
+
+        eventTimeline.track(event);
     }
 
     private void handleTransition(Event event, EventStatus from, EventStatus to) {
-        System.out.println("Event " + event.getName() + " transitioned from " + from + " to " + to);
+        log.info("Event {} ({}) transitioned from {} to {}", event.getName(), event.getId(), from, to);
         missionNotificationService.notifyTransition(event, to);
+        liveUpdatePublisher.publish(LiveUpdatePublisher.eventTopic(event.getId()), LiveUpdatePublisher.STATUS_CHANGED,
+                Map.of("eventId", event.getId(), "status", to));
+    }
+
+    private Counter scannedCounter(String source) {
+        return Counter.builder("ehub.scheduler.events.scanned")
+                .description("Events checked for a status transition")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private Event toSchedule(EventScheduleView view) {
+        return Event.builder()
+                .id(view.getId())
+                .registrationStartDate(view.getRegistrationStartDate())
+                .registrationEndDate(view.getRegistrationEndDate())
+                .startDate(view.getStartDate())
+                .endDate(view.getEndDate())
+                .resultsDate(view.getResultsDate())
+                .judging(view.getJudging())
+                .status(view.getStatus())
+                .build();
     }
 }
@@ -0,0 +1,82 @@
+package com.ehub.event.scheduler;
+
+import com.ehub.event.entity.Event;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class EventTimeline {
+
+    // Statuses flip strictly after end-style boundaries (isAfter), so fire just past each one
+    private static final Duration BOUNDARY_GRACE = Duration.ofMillis(1);
+
+    private final DelayQueue<Boundary> queue = new DelayQueue<>();
+    private final Map<String, LocalDateTime> nextBoundaries = new ConcurrentHashMap<>();
+
+    public void track(Event event) {
+        scheduleAt(event.getId(), nextBoundary(event, LocalDateTime.now()));
+    }
+
+    public void untrack(String eventId) {
+        nextBoundaries.remove(eventId);
+    }
+
+    public void scheduleAt(String eventId, LocalDateTime at) {
+        if (at == null) {
+            nextBoundaries.remove(eventId);
+            return;
+        }
+        nextBoundaries.put(eventId, at);
+        queue.put(new Boundary(eventId, at));
+    }
+
+    public String takeDue() throws InterruptedException {
+        while (true) {
+            Boundary boundary = queue.take();
+            // Entries superseded by a later track/untrack call are discarded lazily
+            if (nextBoundaries.remove(boundary.eventId(), boundary.at())) {
+                return boundary.eventId();
+            }
+        }
+    }
+
+    public int size() {
+        return nextBoundaries.size();
+    }
+
+    private static LocalDateTime nextBoundary(Event event, LocalDateTime now) {
+        LocalDateTime next = null;
+        for (LocalDateTime boundary : new LocalDateTime[] {
+                event.getRegistrationStartDate(),
+                event.getRegistrationEndDate(),
+                event.getStartDate(),
+                event.getEndDate(),
+                event.getResultsDate()}) {
+            if (boundary == null) continue;
+            LocalDateTime fireAt = boundary.plus(BOUNDARY_GRACE);
+            if (fireAt.isAfter(now) && (next == null || fireAt.isBefore(next))) {
+                next = fireAt;
+            }
+        }
+        return next;
+    }
+
+    private record Boundary(String eventId, LocalDateTime at) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), at).toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return at.compareTo(((Boundary) other).at);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.ehub.event.scheduler;
+
+import com.ehub.event.client.NotificationClient;
+import com.ehub.event.entity.OutboxMessage;
+import com.ehub.event.repository.OutboxMessageRepository;
+import com.ehub.event.util.OutboxStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+
+    private final OutboxMessageRepository outboxRepository;
+    private final NotificationClient notificationClient;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${application.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${application.outbox.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${application.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${application.outbox.lease-seconds:600}")
+    private long leaseSeconds;
+
+    @Scheduled(fixedDelayString = "${application.outbox.poll-interval-ms:2000}")
+    public void relay() {
+        // Keep draining while batches come back full
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed == batchSize);
+    }
+
+    // Claims a batch in one short transaction, sends with no transaction or connection held,
+    // then records the outcome in a second short transaction
+    private int relayBatch() {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(leaseSeconds).truncatedTo(ChronoUnit.MILLIS);
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> claimBatch(leaseUntil));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sent = new ArrayList<>();
+        Map<OutboxMessage, String> failed = new LinkedHashMap<>();
+        for (OutboxMessage outboxMessage : batch) {
+            if (outboxMessage.getStatus() != OutboxStatus.SENDING) {
+                continue;
+            }
+            try {
+                notificationClient.sendEmail(outboxMessage.getRecipient(), outboxMessage.getSubject(), outboxMessage.getMessage());
+                sent.add(outboxMessage.getId());
+            } catch (Exception e) {
+                failed.put(outboxMessage, e.getMessage());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> recordOutcome(leaseUntil, sent, failed));
+        return batch.size();
+    }
+
+    // The attempt is counted in the claiming update, so a send that crashes or hangs the relay still uses one up
+    // when its lease expires; a row whose lease ran out on its last attempt is failed instead of claimed again
+    private List<OutboxMessage> claimBatch(LocalDateTime leaseUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> batch = outboxRepository.lockDueBatch(now, batchSize);
+        for (OutboxMessage outboxMessage : batch) {
+            if (outboxMessage.getAttempts() >= maxAttempts) {
+                String error = "Lease expired during the last attempt";
+                giveUp(outboxMessage, error);
+                outboxMessage.setStatus(OutboxStatus.FAILED);
+                outboxMessage.setNextAttemptAt(now);
+                outboxMessage.setLastError(error);
+            } else {
+                outboxMessage.setStatus(OutboxStatus.SENDING);
+                outboxMessage.setAttempts(outboxMessage.getAttempts() + 1);
+                outboxMessage.setNextAttemptAt(leaseUntil);
+            }
+        }
+        return batch;
+    }
+
+    private void recordOutcome(LocalDateTime leaseUntil, List<Long> sent, Map<OutboxMessage, String> failed) {
+        if (!sent.isEmpty()) {
+            outboxRepository.deleteClaimed(sent, OutboxStatus.SENDING, leaseUntil);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        failed.forEach((outboxMessage, error) -> {
+            int attempts = outboxMessage.getAttempts();
+            boolean giveUp = attempts >= maxAttempts;
+            if (giveUp) {
+                giveUp(outboxMessage, error);
+            }
+            outboxRepository.releaseClaimed(outboxMessage.getId(), OutboxStatus.SENDING, leaseUntil,
+                    giveUp ? OutboxStatus.FAILED : OutboxStatus.PENDING,
+                    giveUp ? now : now.plusSeconds(backoffSeconds(attempts)), error);
+        });
+    }
+
+    private void giveUp(OutboxMessage outboxMessage, String error) {
+        log.error("Giving up on notification {} to {} after {} attempts: {}", outboxMessage.getId(), outboxMessage.getRecipient(), outboxMessage.getAttempts(), error);
+        meterRegistry.counter("ehub.outbox.failed").increment();
+    }
+
+    private long backoffSeconds(int attempts) {
+        long backoff = baseBackoffSeconds << Math.min(attempts - 1, 20);
+        return Math.min(backoff, maxBackoffSeconds);
+    }
+}
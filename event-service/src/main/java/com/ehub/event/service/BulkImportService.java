@@ -0,0 +1,262 @@
+package com.ehub.event.service;
+
+import com.ehub.event.cache.EventCache;
+import com.ehub.event.cache.ParticipantDashboardCache;
+import com.ehub.event.client.CommonClient;
+import com.ehub.event.dto.BulkImportResponse;
+import com.ehub.event.dto.ProblemStatementRequest;
+import com.ehub.event.dto.RegistrationRequest;
+import com.ehub.event.entity.Event;
+import com.ehub.event.repository.BulkInsertRepository;
+import com.ehub.event.repository.EventRepository;
+import com.ehub.event.repository.ProblemStatementRepository;
+import com.ehub.event.util.CsvLineParser;
+import com.ehub.event.util.ImportFormat;
+import com.ehub.event.util.MessageKeys;
+import com.ehub.event.util.RegistrationStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_IMPORT_ROWS = 50_000;
+    private static final int MAX_REPORTED_ERRORS = 50;
+
+    private final EventRepository eventRepository;
+    private final ProblemStatementRepository problemRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final CommonClient commonClient;
+    private final EventCache eventCache;
+    private final ParticipantDashboardCache dashboardCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    // The body is read and validated and the ids fetched before any transaction opens, so a slow upload or
+    // common-services call holds no connection. The rows are then written in one short transaction, chunk by
+    // chunk; a chunk that would overfill the event rolls back the whole import.
+    public BulkImportResponse importRegistrations(String eventId, String requesterId, RegistrationStatus status,
+                                                  ImportFormat format, InputStream body) {
+        if (status != RegistrationStatus.PENDING && status != RegistrationStatus.APPROVED) {
+            throw new RuntimeException("Imported registrations must be PENDING or APPROVED.");
+        }
+        requireOrganizer(eventId, requesterId, "Unauthorized: Only the event creator can import registrations.");
+
+        ImportReport report = new ImportReport();
+        List<RegistrationRequest> rows = new ArrayList<>();
+        readRows(body, format, RegistrationRequest.class, List.of("userId", "username", "userEmail"), report, rows::add);
+        if (rows.isEmpty()) {
+            return report.toResponse();
+        }
+
+        List<String> ids = fetchIds(rows.size());
+        LocalDateTime registrationTime = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(transaction -> {
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                int to = Math.min(from + CHUNK_SIZE, rows.size());
+                List<RegistrationRequest> chunk = rows.subList(from, to);
+                List<String> userIds = new ArrayList<>(chunk.size());
+                List<String> usernames = new ArrayList<>(chunk.size());
+                List<String> userEmails = new ArrayList<>(chunk.size());
+                for (RegistrationRequest row : chunk) {
+                    userIds.add(row.getUserId());
+                    usernames.add(row.getUsername());
+                    userEmails.add(row.getUserEmail());
+                }
+
+                int inserted = bulkInsertRepository.insertRegistrations(
+                        eventId, status.name(), registrationTime, ids.subList(from, to), userIds, usernames, userEmails);
+
+                int admitted = status == RegistrationStatus.APPROVED
+                        ? eventRepository.adjustRegistrationCounts(eventId, inserted, 0)
+                        : eventRepository.admitPendingRegistrations(eventId, inserted);
+                if (inserted > 0 && admitted == 0) {
+                    throw new RuntimeException(MessageKeys.EVENT_CAPACITY_REACHED.getMessage());
+                }
+
+                report.imported += inserted;
+                report.duplicates += chunk.size() - inserted;
+            }
+        });
+
+        // Only the imported users' dashboards gain the registration; rows skipped as duplicates are harmless extras
+        if (report.imported > 0) {
+            dashboardCache.invalidate(rows.stream().map(RegistrationRequest::getUserId).distinct().toList());
+        }
+        return report.toResponse();
+    }
+
+    public BulkImportResponse importProblemStatements(String eventId, String requesterId, ImportFormat format, InputStream body) {
+        requireOrganizer(eventId, requesterId, "Unauthorized: Only the event creator can add challenges.");
+
+        ImportReport report = new ImportReport();
+        List<ProblemStatementRequest> rows = new ArrayList<>();
+        readRows(body, format, ProblemStatementRequest.class, List.of("statementId", "statement"), report, rows::add);
+        if (rows.isEmpty()) {
+            return report.toResponse();
+        }
+
+        List<String> ids = fetchIds(rows.size());
+        Integer imported = transactionTemplate.execute(transaction -> insertProblemStatements(eventId, rows, ids));
+        report.imported = imported == null ? 0 : imported;
+
+        if (report.imported > 0) {
+            eventCache.invalidate(eventId);
+        }
+        return report.toResponse();
+    }
+
+    public int insertProblemStatements(String eventId, List<ProblemStatementRequest> requests) {
+        return insertProblemStatements(eventId, requests, fetchIds(requests.size()));
+    }
+
+    // Statement ids continue the event's PS001, PS002, ... sequence
+    private int insertProblemStatements(String eventId, List<ProblemStatementRequest> requests, List<String> ids) {
+        long currentCount = problemRepository.countByEventId(eventId);
+        int inserted = 0;
+        for (int from = 0; from < requests.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, requests.size());
+            List<String> statementIds = new ArrayList<>(to - from);
+            List<String> statements = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                statementIds.add(String.format("PS%03d", currentCount + i + 1));
+                statements.add(requests.get(i).getStatement());
+            }
+            inserted += bulkInsertRepository.insertProblemStatements(eventId, ids.subList(from, to), statementIds, statements);
+        }
+        return inserted;
+    }
+
+    // One batched common-services call per chunk
+    private List<String> fetchIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            ids.addAll(commonClient.getUuids(Math.min(CHUNK_SIZE, count - from)));
+        }
+        return ids;
+    }
+
+    private void requireOrganizer(String eventId, String requesterId, String message) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException(MessageKeys.EVENT_NOT_FOUND.getMessage()));
+        if (!event.getOrganizerId().equals(requesterId)) {
+            throw new RuntimeException(message);
+        }
+    }
+
+    private <T> void readRows(InputStream body, ImportFormat format, Class<T> type, List<String> columns,
+                              ImportReport report, Consumer<T> sink) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            int lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                if (format == ImportFormat.CSV && header == null) {
+                    header = parseHeader(line, columns);
+                    continue;
+                }
+
+                if (++report.received > MAX_IMPORT_ROWS) {
+                    throw new RuntimeException("Import exceeds the limit of " + MAX_IMPORT_ROWS + " rows.");
+                }
+
+                T row;
+                try {
+                    row = format == ImportFormat.CSV
+                            ? objectMapper.convertValue(toRecord(CsvLineParser.parse(line), header), type)
+                            : objectMapper.readValue(line, type);
+                } catch (IllegalArgumentException | IOException e) {
+                    report.reject(lineNumber, "malformed row");
+                    continue;
+                }
+
+                Set<ConstraintViolation<T>> violations = validator.validate(row);
+                if (!violations.isEmpty()) {
+                    ConstraintViolation<T> violation = violations.iterator().next();
+                    report.reject(lineNumber, violation.getPropertyPath() + " " + violation.getMessage());
+                    continue;
+                }
+
+                sink.accept(row);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read import stream: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Integer> parseHeader(String line, List<String> columns) {
+        List<String> names = CsvLineParser.parse(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (String column : columns) {
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).equalsIgnoreCase(column)) {
+                    header.put(column, i);
+                }
+            }
+        }
+        if (header.isEmpty()) {
+            throw new RuntimeException("CSV header must name at least one of the columns " + columns);
+        }
+        return header;
+    }
+
+    private Map<String, String> toRecord(List<String> fields, Map<String, Integer> header) {
+        Map<String, String> record = new HashMap<>();
+        header.forEach((column, index) -> {
+            if (index < fields.size() && !fields.get(index).isEmpty()) {
+                record.put(column, fields.get(index));
+            }
+        });
+        return record;
+    }
+
+    private static class ImportReport {
+        private int received;
+        private int imported;
+        private int duplicates;
+        private int invalid;
+        private final List<String> errors = new ArrayList<>();
+
+        private void reject(int lineNumber, String reason) {
+            invalid++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + lineNumber + ": " + reason);
+            }
+        }
+
+        private BulkImportResponse toResponse() {
+            return BulkImportResponse.builder()
+                    .received(received)
+                    .imported(imported)
+                    .duplicates(duplicates)
+                    .invalid(invalid)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.ehub.event.service;
 
+import com.ehub.event.cache.EventCache;
+import com.ehub.event.cache.ParticipantDashboardCache;
 import com.ehub.event.client.CommonClient;
-import com.ehub.event.client.NotificationClient;
 import com.ehub.event.dto.*;
 import com.ehub.event.entity.Event;
 import com.ehub.event.entity.ProblemStatement;
@@ -9,13 +10,23 @@ import com.ehub.event.entity.Registration;
 import com.ehub.event.repository.EventRepository;
 import com.ehub.event.repository.ProblemStatementRepository;
 import com.ehub.event.repository.RegistrationRepository;
+import com.ehub.event.stream.LiveUpdatePublisher;
+import com.ehub.event.scheduler.EventTimeline;
+import com.ehub.event.util.EventStatus;
 import com.ehub.event.util.MessageKeys;
 import com.ehub.event.util.RegistrationStatus;
 import com.ehub.event.util.ShortCodeGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,15 +36,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EventService {
 
+    private static final int MAX_CATALOG_PAGE_SIZE = 100;
+
     private final EventRepository eventRepository;
     private final ProblemStatementRepository problemRepository;
     private final RegistrationRepository registrationRepository;
     private final CommonClient commonClient;
-    private final NotificationClient notificationClient;
+    private final NotificationOutbox notificationOutbox;
+    private final EventTimeline eventTimeline;
+    private final EventCache eventCache;
+    private final ParticipantDashboardCache dashboardCache;
+    private final BulkImportService bulkImportService;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
 
     public List<EventResponse> getEventsByOrganizer(String organizerId) {
         return eventRepository.findByOrganizerId(organizerId).stream()
-                .map(this::mapToEventResponse)
+                .map(EventService::mapToEventResponse)
                 .collect(Collectors.toList());
     }
 
@@ -43,29 +63,77 @@ public class EventService {
                 .collect(Collectors.toList());
         
         return eventRepository.findAllById(eventIds).stream()
-                .map(this::mapToEventResponse)
+                .map(EventService::mapToEventResponse)
                 .collect(Collectors.toList());
     }
 
     public List<EventResponse> getAllEvents() {
         return eventRepository.findAll().stream()
-                .map(this::mapToEventResponse)
+                .map(EventService::mapToEventResponse)
                 .collect(Collectors.toList());
     }
 
-    public EventResponse getEventById(String id) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException(MessageKeys.EVENT_NOT_FOUND.getMessage()));
-        return mapToEventResponse(event);
+    public CursorPageResponse<EventSummaryResponse> getEventCatalog(EventStatus status, Boolean virtual,
+                                                                   LocalDateTime from, LocalDateTime to,
+                                                                   String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CATALOG_PAGE_SIZE));
+        LocalDateTime afterStart = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                afterStart = LocalDateTime.parse(parts[0]);
+                afterId = parts[1];
+            } catch (Exception e) {
+                throw new RuntimeException("Invalid catalog cursor");
+            }
+        }
+
+        List<EventSummaryResponse> events = eventRepository.findCatalogPage(
+                status, virtual, from, to, afterStart, afterId, PageRequest.of(0, pageSize));
+
+        String nextCursor = null;
+        if (events.size() == pageSize) {
+            EventSummaryResponse last = events.get(events.size() - 1);
+            String position = last.getStartDate() + "|" + last.getId();
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return CursorPageResponse.<EventSummaryResponse>builder()
+                .items(events)
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    public EventResponse getEventByShortCode(String shortCode) {
-        Event event = eventRepository.findByShortCode(shortCode)
-                .orElseThrow(() -> new RuntimeException(MessageKeys.EVENT_NOT_FOUND.getMessage()));
-        return mapToEventResponse(event);
+    // Returns the event as serialized JSON, loaded and rendered in one read-only transaction on a cache miss
+    public byte[] getEventById(String id) {
+        return eventCache.get(id, () -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return readOnly.execute(status -> {
+                Event event = eventRepository.findById(id)
+                        .orElseThrow(() -> new RuntimeException(MessageKeys.EVENT_NOT_FOUND.getMessage()));
+                try {
+                    return objectMapper.writeValueAsBytes(mapToEventResponse(event));
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException("Failed to serialize event " + id, e);
+                }
+            });
+        });
     }
 
-    private EventResponse mapToEventResponse(Event event) {
+    public byte[] getEventByShortCode(String shortCode) {
+        String eventId = eventCache.getEventIdByShortCode(shortCode);
+        if (eventId == null) {
+            Event event = eventRepository.findByShortCode(shortCode)
+                    .orElseThrow(() -> new RuntimeException(MessageKeys.EVENT_NOT_FOUND.getMessage()));
+            eventId = event.getId();
+            eventCache.putShortCode(shortCode, eventId);
+        }
+        return getEventById(eventId);
+    }
+
+    static EventResponse mapToEventResponse(Event event) {
         return EventResponse.builder()
                 .id(event.getId())
                 .shortCode(event.getShortCode())
@@ -73,8 +141,8 @@ public class EventService {
                 .description(event.getDescription())
                 .theme(event.getTheme())
                 .contactEmail(event.getContactEmail())
-                .prizes(event.getPrizes())
-                .rules(event.getRules())
+                .prizes(copyOf(event.getPrizes()))
+                .rules(copyOf(event.getRules()))
                 .startDate(event.getStartDate())
                 .endDate(event.getEndDate())
                 .registrationStartDate(event.getRegistrationStartDate())
@@ -89,12 +157,17 @@ public class EventService {
                 .status(event.getStatus() != null ? event.getStatus() : event.calculateCurrentStatus())
                 .organizerId(event.getOrganizerId())
                 .problemStatements(event.getProblemStatements().stream()
-                        .map(this::mapToProblemStatementResponse)
+                        .map(EventService::mapToProblemStatementResponse)
                         .collect(Collectors.toList()))
                 .build();
     }
 
-    private EventResponse.ProblemStatementResponse mapToProblemStatementResponse(com.ehub.event.entity.ProblemStatement ps) {
+    // Detaches element collections from the persistence context that loaded them
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? null : List.copyOf(values);
+    }
+
+    static EventResponse.ProblemStatementResponse mapToProblemStatementResponse(com.ehub.event.entity.ProblemStatement ps) {
         return EventResponse.ProblemStatementResponse.builder()
                 .id(ps.getId())
                 .statementId(ps.getStatementId())
@@ -131,6 +204,7 @@ public class EventService {
         
         event.setStatus(event.calculateCurrentStatus());
         eventRepository.save(event);
+        eventTimeline.track(event);
         return id;
     }
 
@@ -163,6 +237,8 @@ public class EventService {
         event.setStatus(event.calculateCurrentStatus());
 
         eventRepository.save(event);
+        eventTimeline.track(event);
+        eventCache.invalidate(id);
     }
 
     @Transactional
@@ -175,6 +251,8 @@ public class EventService {
         }
         
         eventRepository.deleteById(id);
+        eventTimeline.untrack(id);
+        eventCache.invalidate(id);
     }
 
     @Transactional
@@ -189,6 +267,8 @@ public class EventService {
         event.setJudging(false);
         event.setStatus(event.calculateCurrentStatus());
         eventRepository.save(event);
+        eventTimeline.track(event);
+        eventCache.invalidate(id);
     }
 
     @Transactional
@@ -200,21 +280,8 @@ public class EventService {
             throw new RuntimeException("Unauthorized: Only the event creator can add challenges.");
         }
 
-        int currentCount = event.getProblemStatements().size();
-        
-        for (int i = 0; i < requests.size(); i++) {
-            String id = commonClient.getUuid();
-            String autoStatementId = String.format("PS%03d", currentCount + i + 1);
-            
-            ProblemStatement problem = ProblemStatement.builder()
-                    .id(id)
-                    .statementId(autoStatementId)
-                    .statement(requests.get(i).getStatement())
-                    .event(event)
-                    .build();
-            
-            problemRepository.save(problem);
-        }
+        bulkImportService.insertProblemStatements(eventId, requests);
+        eventCache.invalidate(eventId);
     }
 
     @Transactional
@@ -237,6 +304,7 @@ public class EventService {
                 .build();
         
         problemRepository.save(problem);
+        eventCache.invalidate(eventId);
     }
 
     @Transactional
@@ -250,6 +318,7 @@ public class EventService {
 
         problem.setStatement(request.getStatement());
         problemRepository.save(problem);
+        eventCache.invalidate(problem.getEvent().getId());
     }
 
     @Transactional
@@ -262,14 +331,11 @@ public class EventService {
         }
 
         problemRepository.deleteById(id);
+        eventCache.invalidate(problem.getEvent().getId());
     }
 
     @Transactional
     public void registerForEvent(String eventId, RegistrationRequest request) {
-        if (registrationRepository.existsByEventIdAndUserId(eventId, request.getUserId())) {
-            throw new RuntimeException(MessageKeys.ALREADY_REGISTERED.getMessage());
-        }
-
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException(MessageKeys.EVENT_NOT_FOUND.getMessage()));
 
@@ -278,39 +344,29 @@ public class EventService {
             throw new RuntimeException("Registration for this event has already closed.");
         }
 
-        // Constraint: Check max participants capacity
-        if (event.getMaxParticipants() != null) {
-            long approvedCount = registrationRepository.findByEventId(eventId).stream()
-                    .filter(reg -> reg.getStatus() == RegistrationStatus.APPROVED)
-                    .count();
-            if (approvedCount >= event.getMaxParticipants()) {
-                throw new RuntimeException("Event capacity reached. No more participants can be approved.");
-            }
+        // Constraint: One registration per user, enforced by the unique (event_id, user_id) index
+        int inserted = registrationRepository.insertIfAbsent(
+                commonClient.getUuid(),
+                eventId,
+                request.getUserId(),
+                request.getUsername(),
+                request.getUserEmail(),
+                RegistrationStatus.PENDING.name(),
+                LocalDateTime.now());
+        if (inserted == 0) {
+            throw new RuntimeException(MessageKeys.ALREADY_REGISTERED.getMessage());
         }
 
-        String id = commonClient.getUuid();
-        
-        Registration registration = Registration.builder()
-                .id(id)
-                .eventId(eventId)
-                .userId(request.getUserId())
-                .username(request.getUsername())
-                .userEmail(request.getUserEmail())
-                .status(RegistrationStatus.PENDING)
-                .registrationTime(LocalDateTime.now())
-                .build();
-
-        registrationRepository.save(registration);
-
-        // Send Notification to User about pending request
-        try {
-            String subject = "Registration Request Received: " + event.getName();
-            String message = "Your registration request for " + event.getName() + " is pending approval from the organizer.";
-            notificationClient.sendEmail(request.getUserEmail(), subject, message);
-        } catch (Exception e) {
-            // Log error but don't fail registration
-            System.err.println("Failed to send registration notification: " + e.getMessage());
+        // Constraint: Check max participants capacity against the maintained counter
+        if (eventRepository.admitPendingRegistrations(eventId, 1) == 0) {
+            throw new RuntimeException(MessageKeys.EVENT_CAPACITY_REACHED.getMessage());
         }
+
+        // Notify user about pending request (delivered by the outbox relay after commit)
+        String subject = "Registration Request Received: " + event.getName();
+        String message = "Your registration request for " + event.getName() + " is pending approval from the organizer.";
+        notificationOutbox.enqueue(request.getUserEmail(), subject, message);
+        dashboardCache.invalidate(request.getUserId());
     }
 
     public List<RegistrationResponse> getEventRegistrations(String eventId) {
@@ -332,7 +388,12 @@ public class EventService {
         Registration registration = registrationRepository.findById(registrationId)
                 .orElseThrow(() -> new RuntimeException(MessageKeys.REGISTRATION_NOT_FOUND.getMessage()));
         
-        registrationRepository.delete(registration);
+        if (registrationRepository.deleteIfStatus(registrationId, registration.getStatus()) == 0) {
+            throw new RuntimeException(MessageKeys.REGISTRATION_MODIFIED.getMessage());
+        }
+        eventRepository.adjustRegistrationCounts(registration.getEventId(),
+                -approvedWeight(registration.getStatus()), -pendingWeight(registration.getStatus()));
+        dashboardCache.invalidate(registration.getUserId());
     }
 
     @Transactional
@@ -347,19 +408,34 @@ public class EventService {
             throw new RuntimeException("Unauthorized: Only the event creator can manage registrations.");
         }
 
-        registration.setStatus(status);
-        registrationRepository.save(registration);
-
-        // Send Notification to User
-        try {
-            String subject = "Registration " + status.name() + " for " + event.getName();
-            String message = status == RegistrationStatus.APPROVED 
-                ? "Congratulations! Your registration for " + event.getName() + " has been APPROVED."
-                : "We regret to inform you that your registration for " + event.getName() + " has been REJECTED.";
-            
-            notificationClient.sendEmail(registration.getUserEmail(), subject, message);
-        } catch (Exception e) {
-            System.err.println("Failed to send status update notification: " + e.getMessage());
+        RegistrationStatus previous = registration.getStatus();
+        if (registrationRepository.compareAndSetStatus(registrationId, previous, status) == 0) {
+            throw new RuntimeException(MessageKeys.REGISTRATION_MODIFIED.getMessage());
         }
+
+        int approvedDelta = approvedWeight(status) - approvedWeight(previous);
+        int pendingDelta = pendingWeight(status) - pendingWeight(previous);
+        if ((approvedDelta != 0 || pendingDelta != 0)
+                && eventRepository.adjustRegistrationCounts(event.getId(), approvedDelta, pendingDelta) == 0) {
+            throw new RuntimeException(MessageKeys.EVENT_CAPACITY_REACHED.getMessage());
+        }
+
+        // Notify user (delivered by the outbox relay after commit)
+        String subject = "Registration " + status.name() + " for " + event.getName();
+        String message = status == RegistrationStatus.APPROVED 
+            ? "Congratulations! Your registration for " + event.getName() + " has been APPROVED."
+            : "We regret to inform you that your registration for " + event.getName() + " has been REJECTED.";
+        notificationOutbox.enqueue(registration.getUserEmail(), subject, message);
+        dashboardCache.invalidate(registration.getUserId());
+        liveUpdatePublisher.publish(LiveUpdatePublisher.userTopic(registration.getUserId()), LiveUpdatePublisher.REGISTRATION_STATUS,
+                Map.of("eventId", event.getId(), "registrationId", registrationId, "status", status));
+    }
+
+    private static int approvedWeight(RegistrationStatus status) {
+        return status == RegistrationStatus.APPROVED ? 1 : 0;
+    }
+
+    private static int pendingWeight(RegistrationStatus status) {
+        return status == RegistrationStatus.PENDING ? 1 : 0;
     }
 }
@@ -0,0 +1,188 @@
+package com.ehub.event.service;
+
+import com.ehub.event.dto.LeaderboardEntry;
+import com.ehub.event.dto.LeaderboardResponse;
+import com.ehub.event.entity.Team;
+import com.ehub.event.repository.TeamRepository;
+import com.ehub.event.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final long TIEBREAK_RANGE = 1L << 32;
+    private static final long BUILD_TTL_SECONDS = 60;
+
+    // Sorts below every team (all rank values are >= 0), so a leaderboard for an event with no
+    // teams still exists and is not rebuilt on every read
+    private static final String LOADED_MARKER = "*";
+
+    // Only touch leaderboards that exist; a missing one is rebuilt from the database on read.
+    // Every write bumps the version so a rebuild that read the database before it is discarded
+    private static final RedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+            "end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "return redis.call('ZREM', KEYS[1], ARGV[1])", Long.class);
+
+    // Swap a rebuilt leaderboard in only if no write landed since its database read began
+    private static final RedisScript<Long> PUBLISH_IF_CURRENT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[3]) or '') ~= ARGV[1] then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('RENAME', KEYS[2], KEYS[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TeamRepository teamRepository;
+
+    @Value("${application.leaderboard.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    public LeaderboardResponse getLeaderboard(String eventId, int offset, int limit) {
+        int start = Math.max(0, offset);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        String key = ensureLoaded(eventId);
+
+        Set<String> teamIds = redisTemplate.opsForZSet().reverseRange(key, start, start + pageSize - 1);
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        long total = size == null ? 0 : Math.max(0, size - 1);
+        if (teamIds != null) {
+            teamIds.remove(LOADED_MARKER);
+        }
+
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        if (teamIds != null && !teamIds.isEmpty()) {
+            Map<String, Team> teams = teamRepository.findAllById(teamIds).stream()
+                    .collect(Collectors.toMap(Team::getId, Function.identity()));
+            long rank = start + 1;
+            for (String teamId : teamIds) {
+                Team team = teams.get(teamId);
+                if (team != null) {
+                    entries.add(mapToEntry(team, rank));
+                }
+                rank++;
+            }
+        }
+
+        return LeaderboardResponse.builder()
+                .eventId(eventId)
+                .totalTeams(total)
+                .entries(entries)
+                .build();
+    }
+
+    public LeaderboardEntry getTeamRank(String eventId, String teamId) {
+        Team team = teamRepository.findById(teamId)
+                .filter(t -> t.getEventId().equals(eventId))
+                .orElseThrow(() -> new RuntimeException("Team not found"));
+
+        Long rank = redisTemplate.opsForZSet().reverseRank(ensureLoaded(eventId), teamId);
+        if (rank == null) {
+            throw new RuntimeException("Team is not ranked yet");
+        }
+        return mapToEntry(team, rank + 1);
+    }
+
+    public void recordTeam(Team team) {
+        String eventId = team.getEventId();
+        String member = team.getId();
+        String value = Double.toString(rankValue(team));
+        AfterCommit.run(() -> update(() -> redisTemplate.execute(ADD_IF_PRESENT,
+                List.of(KEY_PREFIX + eventId, versionKey(eventId)), value, member, Long.toString(ttlSeconds))));
+    }
+
+    public void removeTeam(String eventId, String teamId) {
+        AfterCommit.run(() -> update(() -> redisTemplate.execute(REMOVE,
+                List.of(KEY_PREFIX + eventId, versionKey(eventId)), teamId, Long.toString(ttlSeconds))));
+    }
+
+    private void update(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("Failed to update leaderboard", e);
+        }
+    }
+
+    // Builds into a private key and renames it into place; if a write raced the database read, the
+    // build is not published and only serves this request until it expires
+    private String ensureLoaded(String eventId) {
+        String key = KEY_PREFIX + eventId;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return key;
+        }
+
+        String version = redisTemplate.opsForValue().get(versionKey(eventId));
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(ZSetOperations.TypedTuple.of(LOADED_MARKER, Double.NEGATIVE_INFINITY));
+        for (Team team : teamRepository.findByEventId(eventId)) {
+            tuples.add(ZSetOperations.TypedTuple.of(team.getId(), rankValue(team)));
+        }
+
+        String buildKey = key + ":build:" + UUID.randomUUID();
+        redisTemplate.opsForZSet().add(buildKey, tuples);
+        redisTemplate.expire(buildKey, Duration.ofSeconds(BUILD_TTL_SECONDS));
+
+        Long published = redisTemplate.execute(PUBLISH_IF_CURRENT, List.of(key, buildKey, versionKey(eventId)),
+                version == null ? "" : version, Long.toString(ttlSeconds));
+        return Long.valueOf(1).equals(published) ? key : buildKey;
+    }
+
+    private String versionKey(String eventId) {
+        return KEY_PREFIX + eventId + ":version";
+    }
+
+    // Score descending, then earlier submission first: hundredths of a point in the high
+    // bits, inverted submission epoch seconds (unsubmitted = 0) in the low 32 bits
+    private double rankValue(Team team) {
+        long points = team.getScore() == null ? 0 : Math.round(team.getScore() * 100);
+        long tiebreak = 0;
+        if (team.getSubmissionTime() != null) {
+            long seconds = team.getSubmissionTime().toEpochSecond(ZoneOffset.UTC);
+            tiebreak = TIEBREAK_RANGE - 1 - Math.max(0, Math.min(seconds, TIEBREAK_RANGE - 2));
+        }
+        return (double) (points * TIEBREAK_RANGE + tiebreak);
+    }
+
+    private LeaderboardEntry mapToEntry(Team team, long rank) {
+        return LeaderboardEntry.builder()
+                .rank(rank)
+                .teamId(team.getId())
+                .teamName(team.getName())
+                .shortCode(team.getShortCode())
+                .score(team.getScore())
+                .submissionTime(team.getSubmissionTime())
+                .build();
+    }
+}
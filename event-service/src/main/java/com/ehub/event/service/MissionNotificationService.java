@@ -5,11 +5,15 @@ import com.ehub.event.entity.Event;
 import com.ehub.event.repository.RegistrationRepository;
 import com.ehub.event.util.EventStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Objects;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MissionNotificationService {
@@ -17,6 +21,10 @@ public class MissionNotificationService {
     private final NotificationClient notificationClient;
     private final RegistrationRepository registrationRepository;
 
+    @Value("${application.notification-service.bulk-chunk-size:500}")
+    private int configuredChunkSize;
+
+    @Async
     public void notifyTransition(Event event, EventStatus to) {
         String subject = "";
         String message = "";
@@ -46,18 +54,28 @@ public class MissionNotificationService {
     }
 
     private void broadcastToParticipants(String eventId, String subject, String message) {
-        List<String> emails = registrationRepository.findByEventId(eventId).stream()
-                .map(com.ehub.event.entity.Registration::getUserEmail)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
+        // Keyset-page through distinct emails so only one chunk is held in memory at a time
+        int bulkChunkSize = Math.max(1, Math.min(configuredChunkSize, NotificationClient.MAX_BULK_RECIPIENTS));
+        String after = "";
+        while (true) {
+            List<String> emails = registrationRepository.findParticipantEmailsAfter(eventId, after, PageRequest.of(0, bulkChunkSize));
+            if (emails.isEmpty()) {
+                return;
+            }
 
-        for (String email : emails) {
             try {
-                notificationClient.sendEmail(email, subject, message);
+                List<String> rejected = notificationClient.sendBulkEmail(emails, subject, message);
+                if (!rejected.isEmpty()) {
+                    log.warn("Notification service rejected {} invalid addresses for event {}", rejected.size(), eventId);
+                }
             } catch (Exception e) {
-                System.err.println("Failed to send notification to " + email + ": " + e.getMessage());
+                log.error("Failed to send bulk notification for event {}", eventId, e);
+            }
+
+            if (emails.size() < bulkChunkSize) {
+                return;
             }
+            after = emails.get(emails.size() - 1);
         }
     }
 }
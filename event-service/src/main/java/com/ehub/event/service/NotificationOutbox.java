@@ -0,0 +1,38 @@
+package com.ehub.event.service;
+
+import com.ehub.event.entity.OutboxMessage;
+import com.ehub.event.repository.OutboxMessageRepository;
+import com.ehub.event.util.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final OutboxMessageRepository outboxRepository;
+
+    // Must join the caller's transaction so the email is recorded atomically with the state change
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String to, String subject, String message) {
+        if (to == null || to.isBlank()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        OutboxMessage outboxMessage = OutboxMessage.builder()
+                .recipient(to)
+                .subject(subject)
+                .message(message)
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+
+        outboxRepository.save(outboxMessage);
+    }
+}
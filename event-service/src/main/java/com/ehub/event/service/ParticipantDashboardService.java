@@ -0,0 +1,89 @@
+package com.ehub.event.service;
+
+import com.ehub.event.cache.ParticipantDashboardCache;
+import com.ehub.event.dto.EventSummaryResponse;
+import com.ehub.event.dto.ParticipantDashboardResponse;
+import com.ehub.event.entity.Event;
+import com.ehub.event.entity.TeamMember;
+import com.ehub.event.repository.RegistrationRepository;
+import com.ehub.event.repository.TeamMemberRepository;
+import com.ehub.event.util.TeamMemberStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ParticipantDashboardService {
+
+    private static final int SUMMARY_LENGTH = 200;
+
+    private final RegistrationRepository registrationRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ParticipantDashboardCache dashboardCache;
+
+    // Returns the dashboard as serialized JSON; two queries on a miss: registrations with their events,
+    // memberships with their teams
+    public byte[] getDashboard(String userId) {
+        return dashboardCache.get(userId, () -> {
+            List<ParticipantDashboardResponse.RegistrationEntry> registrations =
+                    registrationRepository.findWithEventByUserId(userId).stream()
+                            .map(reg -> ParticipantDashboardResponse.RegistrationEntry.builder()
+                                    .registrationId(reg.getId())
+                                    .status(reg.getStatus())
+                                    .registrationTime(reg.getRegistrationTime())
+                                    .event(mapToEventSummary(reg.getEvent()))
+                                    .build())
+                            .toList();
+
+            List<TeamMember> memberships = teamMemberRepository.findWithTeamByUserId(userId);
+
+            return ParticipantDashboardResponse.builder()
+                    .registrations(registrations)
+                    .teams(membershipsWithStatus(memberships, TeamMemberStatus.ACCEPTED))
+                    .pendingInvitations(membershipsWithStatus(memberships, TeamMemberStatus.INVITED))
+                    .pendingRequests(membershipsWithStatus(memberships, TeamMemberStatus.REQUESTED))
+                    .build();
+        });
+    }
+
+    private List<ParticipantDashboardResponse.MembershipEntry> membershipsWithStatus(List<TeamMember> memberships,
+                                                                                    TeamMemberStatus status) {
+        return memberships.stream()
+                .filter(m -> m.getStatus() == status)
+                .map(m -> ParticipantDashboardResponse.MembershipEntry.builder()
+                        .teamId(m.getTeam().getId())
+                        .teamName(m.getTeam().getName())
+                        .teamShortCode(m.getTeam().getShortCode())
+                        .eventId(m.getTeam().getEventId())
+                        .role(m.getRole())
+                        .status(m.getStatus())
+                        .build())
+                .toList();
+    }
+
+    private EventSummaryResponse mapToEventSummary(Event event) {
+        String description = event.getDescription();
+        return EventSummaryResponse.builder()
+                .id(event.getId())
+                .shortCode(event.getShortCode())
+                .name(event.getName())
+                .summary(description != null && description.length() > SUMMARY_LENGTH
+                        ? description.substring(0, SUMMARY_LENGTH)
+                        : description)
+                .theme(event.getTheme())
+                .startDate(event.getStartDate())
+                .endDate(event.getEndDate())
+                .registrationStartDate(event.getRegistrationStartDate())
+                .registrationEndDate(event.getRegistrationEndDate())
+                .venue(event.getVenue())
+                .isVirtual(event.isVirtual())
+                .location(event.getLocation())
+                .maxParticipants(event.getMaxParticipants())
+                .teamSize(event.getTeamSize())
+                .status(event.getStatus())
+                .organizerId(event.getOrganizerId())
+                .build();
+    }
+}
@@ -1,7 +1,7 @@
 package com.ehub.event.service;
 
+import com.ehub.event.cache.ParticipantDashboardCache;
 import com.ehub.event.client.CommonClient;
-import com.ehub.event.client.NotificationClient;
 import com.ehub.event.dto.*;
 import com.ehub.event.entity.Event;
 import com.ehub.event.entity.Registration;
@@ -12,11 +12,15 @@ import com.ehub.event.repository.ProblemStatementRepository;
 import com.ehub.event.repository.RegistrationRepository;
 import com.ehub.event.repository.TeamMemberRepository;
 import com.ehub.event.repository.TeamRepository;
+import com.ehub.event.stream.LiveUpdatePublisher;
 import com.ehub.event.util.EventStatus;
+import com.ehub.event.util.MessageKeys;
 import com.ehub.event.util.RegistrationStatus;
 import com.ehub.event.util.TeamMemberStatus;
 import com.ehub.event.util.TeamRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,13 +31,18 @@ import java.util.*;
 @RequiredArgsConstructor
 public class TeamService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final RegistrationRepository registrationRepository;
     private final EventRepository eventRepository;
     private final ProblemStatementRepository problemStatementRepository;
     private final CommonClient commonClient;
-    private final NotificationClient notificationClient;
+    private final NotificationOutbox notificationOutbox;
+    private final ParticipantDashboardCache dashboardCache;
+    private final LeaderboardService leaderboardService;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Transactional
     public void createTeam(String eventId, TeamCreateRequest request) {
@@ -53,8 +62,8 @@ public class TeamService {
         }
 
         // Constraint: User can only be in ONE team per event
-        if (teamMemberRepository.existsByTeamEventIdAndUserIdAndStatus(eventId, request.getUserId(), TeamMemberStatus.ACCEPTED)) {
-            throw new RuntimeException("You are already an accepted member of another team in this event.");
+        if (teamMemberRepository.existsByEventIdAndUserIdAndStatus(eventId, request.getUserId(), TeamMemberStatus.ACCEPTED)) {
+            throw new RuntimeException(MessageKeys.ALREADY_ACCEPTED_ELSEWHERE.getMessage());
         }
 
         Team team = Team.builder()
@@ -64,6 +73,7 @@ public class TeamService {
                 .leaderId(request.getUserId())
                 .shortCode(generateShortCode())
                 .score(0.0)
+                .memberCount(1)
                 .build();
 
         Team savedTeam = teamRepository.save(team);
@@ -71,6 +81,7 @@ public class TeamService {
         TeamMember leader = TeamMember.builder()
                 .id(commonClient.getUuid())
                 .team(savedTeam)
+                .eventId(eventId)
                 .userId(request.getUserId())
                 .username(request.getUsername())
                 .userEmail(request.getUserEmail())
@@ -78,18 +89,40 @@ public class TeamService {
                 .status(TeamMemberStatus.ACCEPTED)
                 .build();
 
-        teamMemberRepository.save(leader);
+        saveMember(leader, MessageKeys.ALREADY_ACCEPTED_ELSEWHERE.getMessage());
+        dashboardCache.invalidate(request.getUserId());
+        leaderboardService.recordTeam(savedTeam);
     }
 
+    @Transactional(readOnly = true)
     public List<TeamResponse> getTeamsByEvent(String eventId) {
-        List<Team> teams = teamRepository.findByEventId(eventId);
-        return teams.stream().map(this::mapToTeamResponse).toList();
+        return teamRepository.findWithMembersByEventId(eventId).stream()
+                .map(team -> mapToTeamResponse(team, team.getMembers()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TeamResponse> getTeamsByEventPage(String eventId, String after, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<String> ids = teamRepository.findIdsByEventIdAfter(eventId, after == null ? "" : after, PageRequest.of(0, pageSize));
+        if (ids.isEmpty()) {
+            return CursorPageResponse.<TeamResponse>builder().items(List.of()).build();
+        }
+
+        List<TeamResponse> teams = teamRepository.findWithMembersByIdIn(ids).stream()
+                .map(team -> mapToTeamResponse(team, team.getMembers()))
+                .toList();
+
+        return CursorPageResponse.<TeamResponse>builder()
+                .items(teams)
+                .nextCursor(ids.size() == pageSize ? ids.get(ids.size() - 1) : null)
+                .build();
     }
 
     public TeamResponse getTeamByShortCode(String shortCode) {
         Team team = teamRepository.findByShortCode(shortCode)
                 .orElseThrow(() -> new RuntimeException("Team not found"));
-        return mapToTeamResponse(team);
+        return mapToTeamResponse(team, teamMemberRepository.findByTeamId(team.getId()));
     }
 
     @Transactional
@@ -117,22 +150,19 @@ public class TeamService {
         }
 
         // Constraint: User can only be in ONE team per event
-        if (teamMemberRepository.existsByTeamEventIdAndUserIdAndStatus(event.getId(), request.getUserId(), TeamMemberStatus.ACCEPTED)) {
+        if (teamMemberRepository.existsByEventIdAndUserIdAndStatus(event.getId(), request.getUserId(), TeamMemberStatus.ACCEPTED)) {
             throw new RuntimeException("This user is already an accepted member of another team in this event.");
         }
 
-        if (event.getTeamSize() != null) {
-            long currentMembers = teamMemberRepository.findByTeamId(teamId).stream()
-                    .filter(m -> m.getStatus() == TeamMemberStatus.ACCEPTED || m.getStatus() == TeamMemberStatus.INVITED)
-                    .count();
-            if (currentMembers >= event.getTeamSize()) {
-                throw new RuntimeException("Team has reached its maximum size capacity.");
-            }
+        // Constraint: Check team size limit (pending invites hold a seat)
+        if (teamRepository.reserveInviteSeat(teamId) == 0) {
+            throw new RuntimeException("Team has reached its maximum size capacity.");
         }
 
         TeamMember member = TeamMember.builder()
                 .id(commonClient.getUuid())
                 .team(team)
+                .eventId(event.getId())
                 .userId(request.getUserId())
                 .username(request.getUsername())
                 .userEmail(request.getUserEmail())
@@ -140,12 +170,15 @@ public class TeamService {
                 .status(TeamMemberStatus.INVITED)
                 .build();
 
-        teamMemberRepository.save(member);
+        saveMember(member, "User is already a member or has a pending association with this team");
 
-        // Send Notification
+        // Send Notification (delivered by the outbox relay after commit)
         String subject = "Mission Invitation: Join " + team.getName();
         String message = "You have been invited to join team " + team.getName() + " for the " + event.getName() + " hackathon. Log in to accept!";
-        notificationClient.sendEmail(request.getUserEmail(), subject, message);
+        notificationOutbox.enqueue(request.getUserEmail(), subject, message);
+        dashboardCache.invalidate(request.getUserId());
+        liveUpdatePublisher.publish(LiveUpdatePublisher.userTopic(request.getUserId()), LiveUpdatePublisher.TEAM_INVITE,
+                Map.of("eventId", event.getId(), "teamId", teamId, "teamName", team.getName()));
     }
 
     @Transactional
@@ -169,22 +202,19 @@ public class TeamService {
         }
 
         // Constraint: User can only be in ONE team per event
-        if (teamMemberRepository.existsByTeamEventIdAndUserIdAndStatus(event.getId(), request.getUserId(), TeamMemberStatus.ACCEPTED)) {
-            throw new RuntimeException("You are already an accepted member of another team in this event.");
+        if (teamMemberRepository.existsByEventIdAndUserIdAndStatus(event.getId(), request.getUserId(), TeamMemberStatus.ACCEPTED)) {
+            throw new RuntimeException(MessageKeys.ALREADY_ACCEPTED_ELSEWHERE.getMessage());
         }
 
-        if (event.getTeamSize() != null) {
-            long currentMembers = teamMemberRepository.findByTeamId(teamId).stream()
-                    .filter(m -> m.getStatus() == TeamMemberStatus.ACCEPTED)
-                    .count();
-            if (currentMembers >= event.getTeamSize()) {
-                throw new RuntimeException("This team is already full.");
-            }
+        // Requests hold no seat; capacity is enforced again when one is accepted
+        if (event.getTeamSize() != null && team.getMemberCount() != null && team.getMemberCount() >= event.getTeamSize()) {
+            throw new RuntimeException("This team is already full.");
         }
 
         TeamMember member = TeamMember.builder()
                 .id(commonClient.getUuid())
                 .team(team)
+                .eventId(event.getId())
                 .userId(request.getUserId())
                 .username(request.getUsername())
                 .userEmail(request.getUserEmail())
@@ -192,7 +222,8 @@ public class TeamService {
                 .status(TeamMemberStatus.REQUESTED)
                 .build();
 
-        teamMemberRepository.save(member);
+        saveMember(member, "You have already requested to join or are already a member of this team");
+        dashboardCache.invalidate(request.getUserId());
     }
 
     @Transactional
@@ -200,20 +231,33 @@ public class TeamService {
         TeamMember member = teamMemberRepository.findByTeamIdAndUserId(teamId, userId)
                 .orElseThrow(() -> new RuntimeException("Membership not found"));
 
+        TeamMemberStatus previous = member.getStatus();
+
         if (accept) {
-            Team team = teamRepository.findById(teamId)
-                    .orElseThrow(() -> new RuntimeException("Team not found"));
-            
-            // Constraint: User can only be in ONE team per event
-            if (teamMemberRepository.existsByTeamEventIdAndUserIdAndStatus(team.getEventId(), userId, TeamMemberStatus.ACCEPTED)) {
-                throw new RuntimeException("You are already an accepted member of another team in this event.");
+            if (previous == TeamMemberStatus.ACCEPTED) {
+                throw new RuntimeException(MessageKeys.ALREADY_TEAM_MEMBER.getMessage());
+            }
+
+            // Constraint: User can only be in ONE team per event (partial unique index on accepted members)
+            try {
+                if (teamMemberRepository.compareAndSetStatus(member.getId(), previous, TeamMemberStatus.ACCEPTED) == 0) {
+                    throw new RuntimeException(MessageKeys.MEMBERSHIP_MODIFIED.getMessage());
+                }
+            } catch (DataIntegrityViolationException e) {
+                throw new RuntimeException(MessageKeys.ALREADY_ACCEPTED_ELSEWHERE.getMessage());
             }
 
-            member.setStatus(TeamMemberStatus.ACCEPTED);
-            teamMemberRepository.save(member);
+            int fromInvite = previous == TeamMemberStatus.INVITED ? 1 : 0;
+            if (teamRepository.admitMember(teamId, fromInvite) == 0) {
+                throw new RuntimeException("This team is already full.");
+            }
         } else {
-            teamMemberRepository.delete(member);
+            if (teamMemberRepository.deleteIfStatus(member.getId(), previous) == 0) {
+                throw new RuntimeException(MessageKeys.MEMBERSHIP_MODIFIED.getMessage());
+            }
+            releaseSeat(teamId, previous);
         }
+        dashboardCache.invalidate(userId);
     }
 
     @Transactional
@@ -225,7 +269,9 @@ public class TeamService {
             throw new RuntimeException("Only leader can dismantle team");
         }
 
+        dashboardCache.invalidate(team.getMembers().stream().map(TeamMember::getUserId).toList());
         teamRepository.delete(team);
+        leaderboardService.removeTeam(team.getEventId(), teamId);
     }
 
     @Transactional
@@ -249,6 +295,7 @@ public class TeamService {
         teamMemberRepository.save(currentLeader);
         teamMemberRepository.save(nextLeader);
         teamRepository.save(team);
+        dashboardCache.invalidate(List.of(currentLeaderId, newLeaderId));
     }
 
     @Transactional
@@ -260,7 +307,11 @@ public class TeamService {
             throw new RuntimeException("Leader cannot leave. Dismantle or transfer leadership first.");
         }
 
-        teamMemberRepository.delete(member);
+        if (teamMemberRepository.deleteIfStatus(member.getId(), member.getStatus()) == 0) {
+            throw new RuntimeException(MessageKeys.MEMBERSHIP_MODIFIED.getMessage());
+        }
+        releaseSeat(teamId, member.getStatus());
+        dashboardCache.invalidate(userId);
     }
 
     @Transactional
@@ -300,6 +351,7 @@ public class TeamService {
         team.setRepoUrl(request.getRepoUrl());
         team.setSubmissionTime(java.time.LocalDateTime.now());
         teamRepository.save(team);
+        leaderboardService.recordTeam(team);
     }
 
     public Map<String, Object> getTeamForEvaluation(String teamId) {
@@ -322,6 +374,25 @@ public class TeamService {
                 .orElseThrow(() -> new RuntimeException("Team not found"));
         team.setScore(score);
         teamRepository.save(team);
+        leaderboardService.recordTeam(team);
+        liveUpdatePublisher.publish(LiveUpdatePublisher.eventTopic(team.getEventId()), LiveUpdatePublisher.SCORE_UPDATED,
+                Map.of("eventId", team.getEventId(), "teamId", teamId, "score", score));
+    }
+
+    private void saveMember(TeamMember member, String conflictMessage) {
+        try {
+            teamMemberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException(conflictMessage);
+        }
+    }
+
+    private void releaseSeat(String teamId, TeamMemberStatus status) {
+        if (status == TeamMemberStatus.ACCEPTED) {
+            teamRepository.adjustMemberCounts(teamId, -1, 0);
+        } else if (status == TeamMemberStatus.INVITED) {
+            teamRepository.adjustMemberCounts(teamId, 0, -1);
+        }
     }
 
     private String generateShortCode() {
@@ -342,10 +413,9 @@ public class TeamService {
         return map;
     }
 
-    private TeamResponse mapToTeamResponse(Team team) {
-        List<TeamResponse.TeamMemberResponse> memberDtos = teamMemberRepository.findByTeamId(team.getId())
-                .stream()
-                .map(this::mapToTeamMemberResponse)
+    static TeamResponse mapToTeamResponse(Team team, List<TeamMember> members) {
+        List<TeamResponse.TeamMemberResponse> memberDtos = members.stream()
+                .map(TeamService::mapToTeamMemberResponse)
                 .toList();
 
         return TeamResponse.builder()
@@ -363,7 +433,7 @@ public class TeamService {
                 .build();
     }
 
-    private TeamResponse.TeamMemberResponse mapToTeamMemberResponse(com.ehub.event.entity.TeamMember m) {
+    static TeamResponse.TeamMemberResponse mapToTeamMemberResponse(com.ehub.event.entity.TeamMember m) {
         return TeamResponse.TeamMemberResponse.builder()
                 .id(m.getId())
                 .userId(m.getUserId())
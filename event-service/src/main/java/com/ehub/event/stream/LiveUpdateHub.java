@@ -0,0 +1,241 @@
+package com.ehub.event.stream;
+
+import com.ehub.event.dto.LiveUpdate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class LiveUpdateHub implements MessageListener {
+
+    public static final String CHANNEL = "event-service:live-updates";
+
+    // Queued like any update so heartbeats also detect subscribers that stopped reading
+    private static final LiveUpdate HEARTBEAT = new LiveUpdate();
+    private static final long STALLED = -1;
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long sendTimeoutMs;
+    private final int senderThreads;
+    private final ThreadPoolExecutor senders;
+    // Senders still blocked in a write to an evicted subscriber; the pool grows by one for each
+    private int stalledSenders;
+    private final Map<String, Set<Subscriber>> subscribersByTopic = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public LiveUpdateHub(RedisMessageListenerContainer listenerContainer,
+                         ObjectMapper objectMapper,
+                         @Value("${application.live-updates.buffer-size:64}") int bufferSize,
+                         @Value("${application.live-updates.timeout-ms:1800000}") long timeoutMs,
+                         @Value("${application.live-updates.send-timeout-ms:5000}") long sendTimeoutMs,
+                         @Value("${application.live-updates.sender-threads:4}") int senderThreads) {
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.senderThreads = senderThreads;
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "live-update-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void listen() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(Subscriber::close);
+        senders.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Collection<String> topics) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(topics), new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscribers.add(subscriber);
+        for (String topic : subscriber.topics) {
+            subscribersByTopic.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            LiveUpdate update = objectMapper.readValue(message.getBody(), LiveUpdate.class);
+            Set<Subscriber> targets = subscribersByTopic.get(update.getTopic());
+            if (targets != null) {
+                targets.forEach(subscriber -> subscriber.offer(update));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to dispatch live update", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.live-updates.heartbeat-ms:20000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    // A write that has not returned within the send timeout means the client stopped reading (full TCP window).
+    // The subscriber is evicted and, since the blocked sender only returns once the container's own write
+    // timeout fires, the pool gets a replacement thread until then so other subscribers keep receiving.
+    @Scheduled(fixedDelayString = "${application.live-updates.stall-check-ms:1000}")
+    public void evictStalled() {
+        long now = System.currentTimeMillis();
+        subscribers.forEach(subscriber -> {
+            long since = subscriber.sendingSince.get();
+            if (since > 0 && now - since > sendTimeoutMs) {
+                subscriber.evict();
+            }
+        });
+    }
+
+    private synchronized void resizeSenders(int delta) {
+        stalledSenders += delta;
+        int size = senderThreads + stalledSenders;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> topics;
+        private final BlockingQueue<LiveUpdate> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        // Start of the write in progress, 0 when idle, STALLED once evicted mid-write
+        private final AtomicLong sendingSince = new AtomicLong();
+
+        private Subscriber(SseEmitter emitter, Set<String> topics, BlockingQueue<LiveUpdate> buffer) {
+            this.emitter = emitter;
+            this.topics = topics;
+            this.buffer = buffer;
+        }
+
+        // Never blocks the dispatcher: a subscriber whose buffer is full is too slow and is dropped
+        private void offer(LiveUpdate update) {
+            if (closed.get()) return;
+            if (!buffer.offer(update)) {
+                evict();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                LiveUpdate update;
+                while (!closed.get() && (update = buffer.poll()) != null) {
+                    long since = System.currentTimeMillis();
+                    sendingSince.set(since);
+                    if (update == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(update.getType()).data(update, MediaType.APPLICATION_JSON));
+                    }
+                    if (!sendingSince.compareAndSet(since, 0)) {
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                close();
+            } finally {
+                if (sendingSince.getAndSet(0) == STALLED) {
+                    resizeSenders(-1);
+                    complete();
+                }
+                draining.set(false);
+            }
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (detach()) {
+                complete();
+            }
+        }
+
+        // Drops the subscriber without waiting on a sender that is mid-write to it: the emitter's lock is held
+        // for the write, so that sender completes the emitter itself once the write returns
+        private void evict() {
+            if (!detach()) return;
+            long since = sendingSince.get();
+            if (since > 0 && sendingSince.compareAndSet(since, STALLED)) {
+                resizeSenders(1);
+            } else {
+                complete();
+            }
+        }
+
+        private boolean detach() {
+            if (!closed.compareAndSet(false, true)) return false;
+            subscribers.remove(this);
+            for (String topic : topics) {
+                subscribersByTopic.computeIfPresent(topic, (t, set) -> {
+                    set.remove(this);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+            buffer.clear();
+            return true;
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (Exception ignored) {
+                // Already completed by the container
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ehub.event.stream;
+
+import com.ehub.event.dto.LiveUpdate;
+import com.ehub.event.util.AfterCommit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveUpdatePublisher {
+
+    public static final String STATUS_CHANGED = "STATUS_CHANGED";
+    public static final String REGISTRATION_STATUS = "REGISTRATION_STATUS";
+    public static final String TEAM_INVITE = "TEAM_INVITE";
+    public static final String SCORE_UPDATED = "SCORE_UPDATED";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public static String eventTopic(String eventId) {
+        return "event:" + eventId;
+    }
+
+    public static String userTopic(String userId) {
+        return "user:" + userId;
+    }
+
+    // Published through Redis so subscribers on every replica receive it, and only after commit
+    public void publish(String topic, String type, Map<String, Object> payload) {
+        LiveUpdate update = LiveUpdate.builder()
+                .topic(topic)
+                .type(type)
+                .payload(payload)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        AfterCommit.run(() -> send(update));
+    }
+
+    private void send(LiveUpdate update) {
+        try {
+            redisTemplate.convertAndSend(LiveUpdateHub.CHANNEL, objectMapper.writeValueAsString(update));
+        } catch (Exception e) {
+            log.warn("Failed to publish live update {} on {}", update.getType(), update.getTopic(), e);
+        }
+    }
+}
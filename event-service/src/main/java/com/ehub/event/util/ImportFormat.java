@@ -0,0 +1,13 @@
+package com.ehub.event.util;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ImportFormat fromContentType(String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase();
+        if (type.contains("csv")) return CSV;
+        if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json")) return NDJSON;
+        throw new RuntimeException("Unsupported import format. Use text/csv or application/x-ndjson.");
+    }
+}
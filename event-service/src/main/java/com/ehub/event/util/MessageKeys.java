@@ -16,6 +16,8 @@ public enum MessageKeys {
     REGISTRATION_CANCELLED("Registration cancelled successfully"),
     REGISTRATION_APPROVED("Participant approved successfully"),
     REGISTRATION_REJECTED("Participant rejected successfully"),
+    EVENT_CAPACITY_REACHED("Event capacity reached. No more participants can be approved."),
+    REGISTRATION_MODIFIED("Registration was modified concurrently. Please retry."),
     
     TEAM_CREATED("Team created successfully"),
     TEAM_DISMANTLED("Team dismantled successfully"),
@@ -28,6 +30,9 @@ public enum MessageKeys {
     TEAM_NOT_FOUND("Team not found"),
     TEAM_MEMBER_NOT_FOUND("Team member not found"),
     ALREADY_IN_TEAM("User is already part of a team in this event"),
+    ALREADY_ACCEPTED_ELSEWHERE("You are already an accepted member of another team in this event."),
+    ALREADY_TEAM_MEMBER("You are already an accepted member of this team."),
+    MEMBERSHIP_MODIFIED("Membership was modified concurrently. Please retry."),
     NOT_TEAM_LEADER("Only the team leader can perform this action");
 
     private final String message;
@@ -0,0 +1,20 @@
+package com.ehub.event.util;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum OutboxStatus {
+    PENDING("PENDING"),  // Waiting for (re)delivery
+    SENDING("SENDING"),  // Claimed by a relay until next_attempt_at, then due again
+    FAILED("FAILED");    // Gave up after the maximum number of attempts
+
+    private final String value;
+
+    OutboxStatus(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+}
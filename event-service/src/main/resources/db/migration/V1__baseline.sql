@@ -0,0 +1,76 @@
+-- Schema as previously generated by ddl-auto=update. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE events (
+    id                      VARCHAR(255) NOT NULL PRIMARY KEY,
+    short_code              VARCHAR(255) UNIQUE,
+    name                    VARCHAR(255) NOT NULL,
+    description             TEXT,
+    theme                   VARCHAR(255),
+    contact_email           VARCHAR(255),
+    start_date              TIMESTAMP(6),
+    end_date                TIMESTAMP(6),
+    registration_start_date TIMESTAMP(6),
+    registration_end_date   TIMESTAMP(6),
+    judging                 BOOLEAN,
+    results_date            TIMESTAMP(6),
+    venue                   VARCHAR(255),
+    is_virtual              BOOLEAN NOT NULL,
+    location                VARCHAR(255),
+    max_participants        INTEGER,
+    team_size               INTEGER,
+    status                  VARCHAR(255),
+    organizer_id            VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE event_prizes (
+    event_id VARCHAR(255) NOT NULL REFERENCES events (id),
+    prize    VARCHAR(255)
+);
+
+CREATE TABLE event_rules (
+    event_id VARCHAR(255) NOT NULL REFERENCES events (id),
+    rule     VARCHAR(255)
+);
+
+CREATE TABLE problem_statements (
+    id           VARCHAR(255) NOT NULL PRIMARY KEY,
+    statement_id VARCHAR(255) NOT NULL,
+    statement    TEXT         NOT NULL,
+    event_id     VARCHAR(255) REFERENCES events (id)
+);
+
+CREATE TABLE event_registrations (
+    id                VARCHAR(255) NOT NULL PRIMARY KEY,
+    event_id          VARCHAR(255) NOT NULL REFERENCES events (id),
+    user_id           VARCHAR(255) NOT NULL,
+    username          VARCHAR(255),
+    user_email        VARCHAR(255),
+    status            VARCHAR(255) NOT NULL,
+    registration_time TIMESTAMP(6) NOT NULL,
+    UNIQUE (event_id, user_id)
+);
+
+CREATE TABLE teams (
+    id                  VARCHAR(255) NOT NULL PRIMARY KEY,
+    short_code          VARCHAR(255) UNIQUE,
+    name                VARCHAR(255) NOT NULL,
+    event_id            VARCHAR(255) NOT NULL,
+    problem_statement_id VARCHAR(255),
+    repo_url            VARCHAR(255),
+    demo_url            VARCHAR(255),
+    submission_time     TIMESTAMP(6),
+    score               FLOAT(53),
+    leader_id           VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE team_members (
+    id         VARCHAR(255) NOT NULL PRIMARY KEY,
+    team_id    VARCHAR(255) REFERENCES teams (id),
+    user_id    VARCHAR(255) NOT NULL,
+    username   VARCHAR(255),
+    user_email VARCHAR(255),
+    role       VARCHAR(255),
+    status     VARCHAR(255),
+    UNIQUE (team_id, user_id)
+);
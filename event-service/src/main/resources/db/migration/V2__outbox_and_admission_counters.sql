@@ -0,0 +1,59 @@
+-- Notification outbox, registration and team seat counters, and event-scoped team
+-- membership. Re-runnable on databases that already gained these via ddl-auto.
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    message         TEXT         NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    last_error      TEXT
+);
+
+ALTER TABLE events ADD COLUMN IF NOT EXISTS approved_count INTEGER;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS pending_count INTEGER;
+ALTER TABLE teams ADD COLUMN IF NOT EXISTS member_count INTEGER;
+ALTER TABLE teams ADD COLUMN IF NOT EXISTS pending_invite_count INTEGER;
+ALTER TABLE team_members ADD COLUMN IF NOT EXISTS event_id VARCHAR(255);
+
+-- Backfill registration counters for events created before they were maintained
+UPDATE events e
+SET approved_count = (SELECT count(*) FROM event_registrations r WHERE r.event_id = e.id AND r.status = 'APPROVED')
+WHERE e.approved_count IS NULL;
+
+UPDATE events e
+SET pending_count = (SELECT count(*) FROM event_registrations r WHERE r.event_id = e.id AND r.status = 'PENDING')
+WHERE e.pending_count IS NULL;
+
+-- Team members carry their event id so accepted memberships can be unique per event
+UPDATE team_members m
+SET event_id = t.event_id
+FROM teams t
+WHERE m.team_id = t.id AND m.event_id IS NULL;
+
+-- Before the index existed a user could be accepted into two teams of the same event. Keep one membership
+-- (a leader seat first, then the oldest row) and remove the others the way TeamService removes a member:
+-- team_members has no status for a removed member, so the duplicates are deleted.
+DELETE FROM team_members m
+USING (SELECT ctid,
+              row_number() OVER (PARTITION BY event_id, user_id
+                                 ORDER BY coalesce(role = 'LEADER', false) DESC, ctid) AS rn
+       FROM team_members
+       WHERE status = 'ACCEPTED' AND event_id IS NOT NULL) d
+WHERE m.ctid = d.ctid AND d.rn > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_team_members_event_user_accepted
+    ON team_members (event_id, user_id)
+    WHERE status = 'ACCEPTED';
+
+-- Backfill team seat counters for teams created before they were maintained
+UPDATE teams t
+SET member_count = (SELECT count(*) FROM team_members m WHERE m.team_id = t.id AND m.status = 'ACCEPTED')
+WHERE t.member_count IS NULL;
+
+UPDATE teams t
+SET pending_invite_count = (SELECT count(*) FROM team_members m WHERE m.team_id = t.id AND m.status = 'INVITED')
+WHERE t.pending_invite_count IS NULL;
@@ -0,0 +1,38 @@
+-- Secondary indexes for the repository access paths. Lookups by the leading
+-- column of an existing unique constraint (event_registrations.event_id,
+-- team_members.team_id) are already index-backed and are not repeated here.
+
+-- EventRepository.findByOrganizerId
+CREATE INDEX IF NOT EXISTS ix_events_organizer_id ON events (organizer_id);
+
+-- EventRepository.findCatalogPage keyset order (start_date, id)
+CREATE INDEX IF NOT EXISTS ix_events_start_date_id ON events (start_date, id);
+
+-- Event.prizes / Event.rules / Event.problemStatements collection loads
+CREATE INDEX IF NOT EXISTS ix_event_prizes_event_id ON event_prizes (event_id);
+CREATE INDEX IF NOT EXISTS ix_event_rules_event_id ON event_rules (event_id);
+CREATE INDEX IF NOT EXISTS ix_problem_statements_event_id ON problem_statements (event_id);
+
+-- RegistrationRepository.findByUserId
+CREATE INDEX IF NOT EXISTS ix_event_registrations_user_id ON event_registrations (user_id);
+
+-- RegistrationRepository.findParticipantEmailsAfter keyset on distinct user_email
+CREATE INDEX IF NOT EXISTS ix_event_registrations_event_id_user_email ON event_registrations (event_id, user_email);
+
+-- TeamRepository.findByEventId / findWithMembersByEventId / findIdsByEventIdAfter
+CREATE INDEX IF NOT EXISTS ix_teams_event_id_id ON teams (event_id, id);
+
+-- TeamRepository.findByEventIdAndLeaderId
+CREATE INDEX IF NOT EXISTS ix_teams_event_id_leader_id ON teams (event_id, leader_id);
+
+-- TeamMemberRepository.findByUserId
+CREATE INDEX IF NOT EXISTS ix_team_members_user_id ON team_members (user_id);
+
+-- TeamMemberRepository.existsByEventIdAndUserIdAndStatus with a bound status, which
+-- a generic plan cannot match against the partial ACCEPTED-only unique index
+CREATE INDEX IF NOT EXISTS ix_team_members_event_id_user_id_status ON team_members (event_id, user_id, status);
+
+-- OutboxMessageRepository.lockDueBatch
+CREATE INDEX IF NOT EXISTS ix_notification_outbox_pending_next_attempt_at
+    ON notification_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
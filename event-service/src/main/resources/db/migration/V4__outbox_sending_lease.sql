@@ -0,0 +1,9 @@
+-- The outbox relay claims rows as SENDING with a lease in next_attempt_at and sends
+-- outside the claiming transaction; expired leases are picked up again.
+
+DROP INDEX IF EXISTS ix_notification_outbox_pending_next_attempt_at;
+
+-- OutboxMessageRepository.lockDueBatch
+CREATE INDEX IF NOT EXISTS ix_notification_outbox_due_next_attempt_at
+    ON notification_outbox (next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING');
@@ -0,0 +1,53 @@
+package com.ehub.event.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The tag index follows the stored entries, so it stays bounded and never drops an entry for a tag it lost
+class BoundedCacheTest {
+
+    private record Tagged(String name, Set<String> tags) {
+    }
+
+    private final BoundedCache<String, Tagged> cache = new BoundedCache<>(2, Duration.ofMinutes(1), Tagged::tags);
+
+    @Test
+    void invalidatesEntriesStoredUnderTag() {
+        cache.get("alice", () -> new Tagged("a", Set.of("event-1")));
+        cache.get("bob", () -> new Tagged("b", Set.of("event-2")));
+
+        cache.invalidateTagged("event-1");
+
+        assertThat(cache.getIfPresent("alice")).isNull();
+        assertThat(cache.getIfPresent("bob")).isNotNull();
+    }
+
+    @Test
+    void evictedEntryLeavesTheIndex() {
+        cache.put("alice", new Tagged("a1", Set.of("event-1")));
+        cache.put("bob", new Tagged("b", Set.of("event-2")));
+        cache.put("carol", new Tagged("c", Set.of("event-2")));
+
+        // alice was evicted with event-1; coming back without it, she no longer belongs to that tag
+        cache.put("alice", new Tagged("a2", Set.of("event-3")));
+        cache.invalidateTagged("event-1");
+
+        assertThat(cache.getIfPresent("alice")).isNotNull();
+    }
+
+    @Test
+    void replacedEntryTakesTheNewTags() {
+        cache.put("alice", new Tagged("a1", Set.of("event-1")));
+        cache.put("alice", new Tagged("a2", Set.of("event-2")));
+
+        cache.invalidateTagged("event-1");
+        assertThat(cache.getIfPresent("alice")).isNotNull();
+
+        cache.invalidateTagged("event-2");
+        assertThat(cache.getIfPresent("alice")).isNull();
+    }
+}
@@ -0,0 +1,176 @@
+package com.ehub.event.repository;
+
+import com.ehub.event.CapturedStatements;
+import com.ehub.event.EmbeddedPostgresTest;
+import com.ehub.event.util.TeamMemberStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Plans the SQL Hibernate actually generates for each repository method against a seeded, analyzed schema and
+// fails if a plan scans a table sequentially or does not use the index the access path was given. Plans are
+// generic (plan_cache_mode = force_generic_plan), the shape a server-prepared statement settles on, so they do
+// not depend on the probe values. findCatalogPage is not covered: its optional filters first bind each
+// parameter in "? is null", which leaves the parameter type undetermined when the captured SQL is prepared.
+class RepositoryQueryPlanTest extends EmbeddedPostgresTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxRepository;
+
+    // Enough rows per table that an index is cheaper than a scan wherever the access path is selective
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("insert into events (id, short_code, name, is_virtual, organizer_id, start_date, status, approved_count, pending_count) " +
+                "select 'plan-event-' || i, 'PE' || i, 'Event ' || i, false, 'plan-organizer-' || (i % 500), " +
+                "timestamp '2026-01-01' + i * interval '1 hour', 'UPCOMING', 0, 0 " +
+                "from generate_series(1, 2000) i");
+        jdbcTemplate.execute("insert into event_registrations (id, event_id, user_id, username, user_email, status, registration_time) " +
+                "select 'plan-registration-' || i, 'plan-event-' || (i % 2000 + 1), 'plan-user-' || (i / 4), 'user' || (i / 4), " +
+                "'user' || (i / 4) || '@example.com', 'APPROVED', timestamp '2026-01-01' + i * interval '1 minute' " +
+                "from generate_series(0, 39999) i");
+        jdbcTemplate.execute("insert into teams (id, short_code, name, event_id, leader_id, member_count, pending_invite_count) " +
+                "select 'plan-team-' || lpad(i::text, 6, '0'), 'PT' || i, 'Team ' || i, 'plan-event-' || (i % 2000 + 1), " +
+                "'plan-user-' || i, 4, 0 " +
+                "from generate_series(0, 19999) i");
+        jdbcTemplate.execute("insert into team_members (id, team_id, event_id, user_id, role, status) " +
+                "select 'plan-member-' || i, 'plan-team-' || lpad((i / 4)::text, 6, '0'), 'plan-event-' || ((i / 4) % 2000 + 1), " +
+                "'plan-member-user-' || i, case when i % 4 = 0 then 'LEADER' else 'MEMBER' end, 'ACCEPTED' " +
+                "from generate_series(0, 79999) i");
+        jdbcTemplate.execute("insert into notification_outbox (recipient, subject, message, status, attempts, next_attempt_at, created_at) " +
+                "select 'user' || i || '@example.com', 'Subject', 'Body', case when i % 100 = 0 then 'PENDING' else 'FAILED' end, " +
+                "0, timestamp '2026-01-01' + i * interval '1 second', timestamp '2026-01-01' " +
+                "from generate_series(1, 20000) i");
+        jdbcTemplate.execute("analyze events, event_registrations, teams, team_members, notification_outbox");
+    }
+
+    @Test
+    void eventLookupsUseIndexes() {
+        assertPlan(() -> eventRepository.findByOrganizerId("plan-organizer-7"), "ix_events_organizer_id");
+        assertPlan(() -> eventRepository.findByShortCode("PE7"), "events_short_code_key");
+    }
+
+    @Test
+    void registrationLookupsUseIndexes() {
+        assertPlan(() -> registrationRepository.findByEventId("plan-event-7"),
+                "event_registrations_event_id_user_id_key", "ix_event_registrations_event_id_user_email");
+        assertPlan(() -> registrationRepository.findByUserId("plan-user-7"), "ix_event_registrations_user_id");
+        assertPlan(() -> registrationRepository.findWithEventByUserId("plan-user-7"), "ix_event_registrations_user_id");
+        assertPlan(() -> registrationRepository.findByEventIdAndUserId("plan-event-8", "plan-user-7"),
+                "event_registrations_event_id_user_id_key", "ix_event_registrations_user_id");
+        assertPlan(() -> registrationRepository.findParticipantEmailsAfter("plan-event-7", "", PageRequest.of(0, 500)),
+                "ix_event_registrations_event_id_user_email", "event_registrations_event_id_user_id_key");
+    }
+
+    @Test
+    void teamLookupsUseIndexes() {
+        assertPlan(() -> teamRepository.findByEventId("plan-event-7"), "ix_teams_event_id_id", "ix_teams_event_id_leader_id");
+        assertPlan(() -> teamRepository.findByEventIdAndLeaderId("plan-event-7", "plan-user-6"), "ix_teams_event_id_leader_id");
+        assertPlan(() -> teamRepository.findByShortCode("PT7"), "teams_short_code_key");
+        assertPlan(() -> teamRepository.findWithMembersByEventId("plan-event-7"), "ix_teams_event_id_id", "ix_teams_event_id_leader_id");
+        assertPlan(() -> teamRepository.findIdsByEventIdAfter("plan-event-7", "", PageRequest.of(0, 50)), "ix_teams_event_id_id");
+        assertPlan(() -> teamRepository.findWithMembersByIdIn(List.of("plan-team-000006", "plan-team-002006")), "teams_pkey");
+    }
+
+    @Test
+    void teamMemberLookupsUseIndexes() {
+        assertPlan(() -> teamMemberRepository.findByUserId("plan-member-user-7"), "ix_team_members_user_id");
+        assertPlan(() -> teamMemberRepository.findWithTeamByUserId("plan-member-user-7"), "ix_team_members_user_id");
+        assertPlan(() -> teamMemberRepository.findByTeamId("plan-team-000001"), "team_members_team_id_user_id_key");
+        assertPlan(() -> teamMemberRepository.findByTeamIdAndUserId("plan-team-000001", "plan-member-user-7"),
+                "team_members_team_id_user_id_key", "ix_team_members_user_id");
+        assertPlan(() -> teamMemberRepository.existsByTeamIdAndUserId("plan-team-000001", "plan-member-user-7"),
+                "team_members_team_id_user_id_key", "ix_team_members_user_id");
+        assertPlan(() -> teamMemberRepository.existsByEventIdAndUserIdAndStatus("plan-event-2", "plan-member-user-7", TeamMemberStatus.ACCEPTED),
+                "ix_team_members_event_id_user_id_status", "ix_team_members_user_id");
+    }
+
+    @Test
+    void outboxPollUsesPartialIndex() {
+        assertPlan(() -> outboxRepository.lockDueBatch(LocalDateTime.now(), 100), "ix_notification_outbox_due_next_attempt_at");
+    }
+
+    // Runs the repository call, then plans every statement it issued. No statement may scan a table
+    // sequentially, and together they must use at least one of the expected indexes.
+    private void assertPlan(Runnable repositoryCall, String... expectedIndexes) {
+        CapturedStatements.clear();
+        repositoryCall.run();
+        List<String> statements = CapturedStatements.list();
+        assertThat(statements).as("statements issued").isNotEmpty();
+
+        List<String> indexes = new ArrayList<>();
+        for (String sql : statements) {
+            List<JsonNode> nodes = new ArrayList<>();
+            collect(plan(sql), nodes);
+            for (JsonNode node : nodes) {
+                assertThat(node.path("Node Type").asText())
+                        .as("plan node on %s for %s", node.path("Relation Name").asText(), sql)
+                        .isNotEqualTo("Seq Scan");
+                if (node.has("Index Name")) {
+                    indexes.add(node.get("Index Name").asText());
+                }
+            }
+        }
+        assertThat(indexes).as("indexes used by %s", statements).containsAnyOf(expectedIndexes);
+    }
+
+    private JsonNode plan(String sql) {
+        int parameters = 0;
+        StringBuilder positional = new StringBuilder(sql.length());
+        boolean quoted = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                positional.append('$').append(++parameters);
+            } else {
+                positional.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("set local plan_cache_mode = force_generic_plan");
+        jdbcTemplate.execute("prepare access_path as " + positional);
+        try {
+            String arguments = parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "null")) + ")";
+            String json = jdbcTemplate.queryForObject("explain (format json) execute access_path" + arguments, String.class);
+            return OBJECT_MAPPER.readTree(json).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not plan " + sql, e);
+        } finally {
+            jdbcTemplate.execute("deallocate access_path");
+        }
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        node.path("Plans").forEach(child -> collect(child, nodes));
+    }
+}
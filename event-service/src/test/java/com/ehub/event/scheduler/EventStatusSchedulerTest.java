@@ -0,0 +1,48 @@
+package com.ehub.event.scheduler;
+
+import com.ehub.event.cache.EventCache;
+import com.ehub.event.repository.EventRepository;
+import com.ehub.event.service.MissionNotificationService;
+import com.ehub.event.stream.LiveUpdatePublisher;
+import com.ehub.event.util.EventStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// VIRTUAL_THREADS_ENABLED=true must not stop the service from starting on a JDK 17 image
+class EventStatusSchedulerTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventTimeline eventTimeline = new EventTimeline();
+    private EventStatusScheduler scheduler;
+
+    @AfterEach
+    void stop() {
+        scheduler.stop();
+    }
+
+    @Test
+    void startsWithVirtualThreadsEnabledOnAnyJdk() {
+        when(eventRepository.findByStatusIsNullOrStatusNot(EventStatus.COMPLETED)).thenReturn(List.of());
+        when(eventRepository.findById("event-1")).thenReturn(Optional.empty());
+        scheduler = new EventStatusScheduler(eventRepository, mock(MissionNotificationService.class), eventTimeline,
+                mock(EventCache.class), mock(LiveUpdatePublisher.class), new SimpleMeterRegistry(),
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+
+        scheduler.start();
+        eventTimeline.scheduleAt("event-1", LocalDateTime.now());
+
+        // The timeline thread is running and picks up due events
+        verify(eventRepository, timeout(5000)).findById("event-1");
+    }
+}
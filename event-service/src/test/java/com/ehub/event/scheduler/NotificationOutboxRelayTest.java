@@ -0,0 +1,83 @@
+package com.ehub.event.scheduler;
+
+import com.ehub.event.EmbeddedPostgresTest;
+import com.ehub.event.client.NotificationClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// A claim counts as an attempt, so a message whose send keeps crashing or hanging the relay still reaches FAILED
+@Import({NotificationOutboxRelay.class, NotificationOutboxRelayTest.Metrics.class})
+class NotificationOutboxRelayTest extends EmbeddedPostgresTest {
+
+    @Autowired
+    private NotificationOutboxRelay relay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private NotificationClient notificationClient;
+
+    @Test
+    void failsMessageWhoseLeaseExpiredOnItsLastAttempt() {
+        long id = insertExpiredLease("last@example.com", 8);
+
+        relay.relay();
+        entityManager.flush();
+
+        verify(notificationClient, never()).sendEmail(eq("last@example.com"), any(), any());
+        assertThat(row(id)).containsEntry("status", "FAILED").containsEntry("attempts", 8);
+    }
+
+    @Test
+    void countsReclaimedLeaseOnceAsAnAttempt() {
+        long id = insertExpiredLease("retry@example.com", 2);
+        doThrow(new RuntimeException("SMTP down")).when(notificationClient).sendEmail(eq("retry@example.com"), any(), any());
+
+        relay.relay();
+        entityManager.flush();
+
+        assertThat(row(id)).containsEntry("status", "PENDING").containsEntry("attempts", 3);
+    }
+
+    // A SENDING row whose lease ran out: the relay that claimed it crashed or hung mid-send
+    private long insertExpiredLease(String recipient, int attempts) {
+        return jdbcTemplate.queryForObject("insert into notification_outbox " +
+                "(recipient, subject, message, status, attempts, next_attempt_at, created_at) " +
+                "values (?, 'Subject', 'Body', 'SENDING', ?, now() - interval '1 minute', now()) returning id",
+                Long.class, recipient, attempts);
+    }
+
+    private Map<String, Object> row(long id) {
+        return jdbcTemplate.queryForMap("select status, attempts from notification_outbox where id = ?", id);
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ehub.event.service;
+
+import com.ehub.event.EmbeddedPostgresTest;
+import com.ehub.event.cache.ParticipantDashboardCache;
+import com.ehub.event.client.CommonClient;
+import com.ehub.event.dto.CursorPageResponse;
+import com.ehub.event.dto.TeamResponse;
+import com.ehub.event.stream.LiveUpdatePublisher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Team listings must cost a fixed number of statements however many teams an event has
+@Import(TeamService.class)
+class TeamServiceQueryCountTest extends EmbeddedPostgresTest {
+
+    private static final String EVENT_ID = "event-teams";
+    private static final int TEAMS = 30;
+    private static final int MEMBERS_PER_TEAM = 4;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private CommonClient commonClient;
+
+    @MockBean
+    private NotificationOutbox notificationOutbox;
+
+    @MockBean
+    private ParticipantDashboardCache dashboardCache;
+
+    @MockBean
+    private LeaderboardService leaderboardService;
+
+    @MockBean
+    private LiveUpdatePublisher liveUpdatePublisher;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into events (id, name, is_virtual, organizer_id) values (?, 'Query count', false, 'organizer')", EVENT_ID);
+        for (int t = 0; t < TEAMS; t++) {
+            String teamId = String.format("team-%03d", t);
+            jdbcTemplate.update("insert into teams (id, name, event_id, leader_id, member_count, pending_invite_count) " +
+                    "values (?, ?, ?, ?, ?, 0)", teamId, "Team " + t, EVENT_ID, teamId + "-user-0", MEMBERS_PER_TEAM);
+            for (int m = 0; m < MEMBERS_PER_TEAM; m++) {
+                jdbcTemplate.update("insert into team_members (id, team_id, event_id, user_id, role, status) " +
+                        "values (?, ?, ?, ?, ?, 'ACCEPTED')", teamId + "-member-" + m, teamId, EVENT_ID,
+                        teamId + "-user-" + m, m == 0 ? "LEADER" : "MEMBER");
+            }
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listsAllTeamsWithMembersInOneStatement() {
+        List<TeamResponse> teams = teamService.getTeamsByEvent(EVENT_ID);
+
+        assertThat(teams).hasSize(TEAMS);
+        assertThat(teams).allSatisfy(team -> assertThat(team.getMembers()).hasSize(MEMBERS_PER_TEAM));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pagesTeamsWithTwoStatementsPerPage() {
+        CursorPageResponse<TeamResponse> first = teamService.getTeamsByEventPage(EVENT_ID, null, 10);
+
+        assertThat(first.getItems()).hasSize(10);
+        assertThat(first.getItems()).allSatisfy(team -> assertThat(team.getMembers()).hasSize(MEMBERS_PER_TEAM));
+        assertThat(first.getNextCursor()).isEqualTo("team-009");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        CursorPageResponse<TeamResponse> second = teamService.getTeamsByEventPage(EVENT_ID, first.getNextCursor(), 25);
+
+        assertThat(second.getItems()).extracting(TeamResponse::getId).first().isEqualTo("team-010");
+        assertThat(second.getItems()).hasSize(TEAMS - 10);
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ehub.http;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class Bulkhead {
+
+    private final String target;
+    private final Semaphore permits;
+    private final Duration maxWait;
+
+    public Bulkhead(String target, int maxConcurrentCalls, Duration maxWait) {
+        this.target = target;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.maxWait = maxWait;
+    }
+
+    public void acquire() {
+        try {
+            if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new DependencyUnavailableException("Too many concurrent calls to " + target);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DependencyUnavailableException("Interrupted waiting for a call slot to " + target);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,11 @@
+package com.ehub.http;
+
+import org.springframework.web.client.RestClientException;
+
+// A RestClientException so existing callers that handle client failures also handle rejections
+public class DependencyUnavailableException extends RestClientException {
+
+    public DependencyUnavailableException(String message) {
+        super(message);
+    }
+}
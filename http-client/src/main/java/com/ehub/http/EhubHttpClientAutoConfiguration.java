@@ -0,0 +1,54 @@
+package com.ehub.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class EhubHttpClientAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public CloseableHttpClient ehubHttpClient(HttpClientProperties properties) {
+        return PooledHttpClientFactory.create(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ResilienceInterceptor resilienceInterceptor(HttpClientProperties properties,
+                                                       ObjectProvider<HttpClientMetrics> metrics) {
+        return new ResilienceInterceptor(properties, metrics.getIfAvailable(() -> HttpClientMetrics.NOOP));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RestTemplate restTemplate(CloseableHttpClient ehubHttpClient, ResilienceInterceptor resilienceInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(ehubHttpClient));
+        restTemplate.setInterceptors(List.of(resilienceInterceptor));
+        return restTemplate;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean(HttpClientMetrics.class)
+        public HttpClientMetrics httpClientMetrics(MeterRegistry meterRegistry) {
+            return new MicrometerHttpClientMetrics(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ehub.http;
+
+public interface HttpClientMetrics {
+
+    HttpClientMetrics NOOP = (target, method, outcome, nanos) -> { };
+
+    void record(String target, String method, String outcome, long nanos);
+}
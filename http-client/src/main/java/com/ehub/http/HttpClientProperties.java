@@ -0,0 +1,49 @@
+package com.ehub.http;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "ehub.http-client")
+public class HttpClientProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+    // How long a call may wait for a pooled connection before failing
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration idleEviction = Duration.ofSeconds(60);
+    private int maxConnections = 200;
+    private int maxConnectionsPerTarget = 50;
+
+    private Target defaults = new Target();
+    // Overrides keyed by target host name, e.g. ehub.http-client.targets.notification-service.max-concurrent-calls
+    private Map<String, Target> targets = new HashMap<>();
+
+    public Target forTarget(String host) {
+        Target override = targets.get(host);
+        if (override == null) {
+            return defaults;
+        }
+        Target merged = new Target();
+        merged.setMaxConcurrentCalls(override.getMaxConcurrentCalls() != null ? override.getMaxConcurrentCalls() : defaults.getMaxConcurrentCalls());
+        merged.setMaxWait(override.getMaxWait() != null ? override.getMaxWait() : defaults.getMaxWait());
+        merged.setFailureThreshold(override.getFailureThreshold() != null ? override.getFailureThreshold() : defaults.getFailureThreshold());
+        merged.setOpenDuration(override.getOpenDuration() != null ? override.getOpenDuration() : defaults.getOpenDuration());
+        return merged;
+    }
+
+    @Data
+    public static class Target {
+        // Bulkhead: concurrent in-flight calls allowed to this target
+        private Integer maxConcurrentCalls = 20;
+        private Duration maxWait = Duration.ofMillis(100);
+        // Circuit breaker: consecutive failures before opening, and how long it stays open
+        private Integer failureThreshold = 5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
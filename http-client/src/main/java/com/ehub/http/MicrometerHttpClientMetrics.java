@@ -0,0 +1,36 @@
+package com.ehub.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public class MicrometerHttpClientMetrics implements HttpClientMetrics {
+
+    private final MeterRegistry meterRegistry;
+    // Built once per tag set instead of going through Timer.builder().register() on every request
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String target, String method, String outcome, long nanos) {
+        timers.computeIfAbsent(new TimerKey(target, method, outcome), this::register)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder("ehub.http.client.requests")
+                .description("Latency of inter-service HTTP calls")
+                .tag("target", key.target())
+                .tag("method", key.method())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String target, String method, String outcome) {
+    }
+}
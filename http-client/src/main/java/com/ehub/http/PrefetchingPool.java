@@ -0,0 +1,77 @@
+package com.ehub.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+// Values fetched ahead of time in batches from another service, so most callers take one without a remote call.
+// Once the pool drops below the low-water mark, a single background thread fetches another batch.
+@Slf4j
+public class PrefetchingPool<T> implements AutoCloseable {
+
+    private final String name;
+    private final int batchSize;
+    private final int lowWaterMark;
+    private final IntFunction<List<T>> batchLoader;
+    private final BlockingQueue<T> values = new LinkedBlockingQueue<>();
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+    private final ExecutorService refillExecutor;
+
+    public PrefetchingPool(String name, int batchSize, int lowWaterMark, IntFunction<List<T>> batchLoader) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.lowWaterMark = lowWaterMark;
+        this.batchLoader = batchLoader;
+        this.refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Null when the pool is empty; the caller then fetches directly
+    public T poll() {
+        T value = values.poll();
+        refillIfLow();
+        return value;
+    }
+
+    // Up to count values, fewer when the pool runs short
+    public List<T> drain(int count) {
+        List<T> drained = new ArrayList<>(Math.min(count, values.size()));
+        values.drainTo(drained, count);
+        refillIfLow();
+        return drained;
+    }
+
+    public void refillIfLow() {
+        if (values.size() >= lowWaterMark || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        refillExecutor.execute(() -> {
+            try {
+                values.addAll(batchLoader.apply(batchSize));
+            } catch (Exception e) {
+                log.warn("Failed to refill {} pool", name, e);
+            } finally {
+                refilling.set(false);
+            }
+        });
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public void close() {
+        refillExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ehub.http;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final HttpClientProperties properties;
+    private final HttpClientMetrics metrics;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String target = request.getURI().getHost();
+        String method = request.getMethod().name();
+        CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(target, this::newCircuitBreaker);
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(target, this::newBulkhead);
+
+        long start = System.nanoTime();
+        try {
+            bulkhead.acquire();
+        } catch (DependencyUnavailableException e) {
+            metrics.record(target, method, "REJECTED", System.nanoTime() - start);
+            throw e;
+        }
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (DependencyUnavailableException e) {
+            bulkhead.release();
+            metrics.record(target, method, "REJECTED", System.nanoTime() - start);
+            throw e;
+        }
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            // 4xx means the dependency answered; only 5xx counts against its health
+            if (response.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onFailure();
+                metrics.record(target, method, "SERVER_ERROR", System.nanoTime() - start);
+            } else {
+                circuitBreaker.onSuccess();
+                metrics.record(target, method, response.getStatusCode().is4xxClientError() ? "CLIENT_ERROR" : "SUCCESS",
+                        System.nanoTime() - start);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            metrics.record(target, method, "IO_ERROR", System.nanoTime() - start);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Bulkhead newBulkhead(String target) {
+        HttpClientProperties.Target config = properties.forTarget(target);
+        return new Bulkhead(target, config.getMaxConcurrentCalls(), config.getMaxWait());
+    }
+
+    private CircuitBreaker newCircuitBreaker(String target) {
+        HttpClientProperties.Target config = properties.forTarget(target);
+        return new CircuitBreaker(target, config.getFailureThreshold(), config.getOpenDuration());
+    }
+}
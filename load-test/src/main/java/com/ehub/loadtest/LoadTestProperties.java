@@ -0,0 +1,40 @@
+package com.ehub.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    // Repository checkout holding the built service jars; detected from the working directory when empty
+    private String repositoryRoot;
+
+    private int participants = 400;
+    private int teamSize = 4;
+    private int concurrency = 100;
+
+    private int leaderboardReaders = 200;
+    private Duration leaderboardDuration = Duration.ofSeconds(60);
+    private Duration leaderboardThinkTime = Duration.ofMillis(250);
+    private int scoreUpdatesPerSecond = 20;
+
+    // Bulk evaluation runs against ai-service's local evaluator, so it needs no model key or network
+    private int manualEvaluations = 10;
+    private int evaluatorRequestsPerMinute = 600;
+    private Duration evaluatorLatencyMedian = Duration.ofMillis(500);
+    private double evaluatorErrorRate = 0.0;
+    private Duration evaluationTimeout = Duration.ofMinutes(10);
+    private Duration evaluationPollInterval = Duration.ofMillis(500);
+
+    private Duration startupTimeout = Duration.ofMinutes(3);
+    private String serviceJvmOptions = "-Xmx512m";
+
+    // All virtual users share one client address, so the per-IP gateway limits are raised for the run
+    private int gatewayRateLimit = 100_000;
+
+    private String resultsDirectory = "load-test/target/results";
+    private double maxErrorRate = 0.01;
+}
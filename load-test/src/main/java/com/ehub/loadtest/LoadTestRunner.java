@@ -0,0 +1,201 @@
+package com.ehub.loadtest;
+
+import com.ehub.loadtest.client.GatewayClient;
+import com.ehub.loadtest.infra.LocalInfrastructure;
+import com.ehub.loadtest.infra.Ports;
+import com.ehub.loadtest.infra.ServiceLauncher;
+import com.ehub.loadtest.report.LatencyRecorder;
+import com.ehub.loadtest.report.ReportWriter;
+import com.ehub.loadtest.report.ScenarioResult;
+import com.ehub.loadtest.scenario.BulkEvaluationScenario;
+import com.ehub.loadtest.scenario.Hackathon;
+import com.ehub.loadtest.scenario.LeaderboardStormScenario;
+import com.ehub.loadtest.scenario.RegistrationSpikeScenario;
+import com.ehub.loadtest.scenario.Scenario;
+import com.ehub.loadtest.scenario.SubmissionDeadlineScenario;
+import com.ehub.loadtest.scenario.TeamFormationScenario;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    // Every service runs on localhost, so the http-client bulkheads of all downstream targets collapse into one key.
+    // Give it the combined budget of the production targets (common-services 20 + notification-service 10).
+    private static final String LOCALHOST_BULKHEAD = "30";
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private int exitCode;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Path root = repositoryRoot();
+        Path resultsDirectory = root.resolve(properties.getResultsDirectory());
+        Files.createDirectories(resultsDirectory);
+
+        try (LocalInfrastructure infrastructure = new LocalInfrastructure();
+             ServiceLauncher launcher = new ServiceLauncher(root, resultsDirectory.resolve("logs"), properties.getServiceJvmOptions())) {
+            infrastructure.start();
+            int gatewayPort = startServices(infrastructure, launcher);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            GatewayClient client = new GatewayClient("http://localhost:" + gatewayPort, objectMapper, recorder);
+            Hackathon hackathon = new Hackathon(properties, client, infrastructure);
+
+            recorder.startScenario("setup");
+            hackathon.createEvent();
+            recorder.finishScenario();
+
+            List<Scenario> scenarios = List.of(
+                    new RegistrationSpikeScenario(),
+                    new TeamFormationScenario(),
+                    new SubmissionDeadlineScenario(),
+                    new LeaderboardStormScenario(),
+                    new BulkEvaluationScenario(recorder));
+            for (Scenario scenario : scenarios) {
+                log.info("Running scenario '{}'", scenario.name());
+                recorder.startScenario(scenario.name());
+                try {
+                    scenario.run(hackathon);
+                } finally {
+                    ScenarioResult result = recorder.finishScenario();
+                    log.info("Scenario '{}' finished in {}s: {} requests, {} errors",
+                            result.name(), result.elapsed().toSeconds(), result.requests(), result.errors());
+                }
+            }
+            log.info("Formed {} of {} planned teams; {} emails delivered to the SMTP sink",
+                    hackathon.formedTeams().size(), hackathon.getTeams().size(), infrastructure.receivedEmails());
+
+            String report = new ReportWriter(objectMapper).write(recorder.results(), resultsDirectory);
+            System.out.println(report);
+            log.info("Report written to {}", resultsDirectory);
+
+            for (ScenarioResult result : recorder.results()) {
+                if (result.errorRate() > properties.getMaxErrorRate()) {
+                    log.error("Scenario '{}' error rate {} exceeds the allowed {}",
+                            result.name(), result.errorRate(), properties.getMaxErrorRate());
+                    exitCode = 1;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    // Starts the services in dependency order against the embedded infrastructure and returns the gateway port
+    private int startServices(LocalInfrastructure infrastructure, ServiceLauncher launcher) throws Exception {
+        String redisPort = String.valueOf(infrastructure.redisPort());
+        int commonPort = Ports.free();
+        int notificationPort = Ports.free();
+        int authPort = Ports.free();
+        int eventPort = Ports.free();
+        int aiPort = Ports.free();
+        int gatewayPort = Ports.free();
+
+        launcher.launch("common-services", commonPort, Map.of());
+
+        Map<String, String> notification = new LinkedHashMap<>();
+        notification.put("spring.data.redis.host", "localhost");
+        notification.put("spring.data.redis.port", redisPort);
+        notification.put("spring.mail.host", "127.0.0.1");
+        notification.put("spring.mail.port", String.valueOf(infrastructure.smtpPort()));
+        notification.put("spring.mail.username", "loadtest");
+        notification.put("spring.mail.password", "loadtest");
+        notification.put("spring.mail.properties.mail.smtp.auth", "false");
+        notification.put("spring.mail.properties.mail.smtp.starttls.enable", "false");
+        notification.put("spring.mail.properties.mail.smtp.starttls.required", "false");
+        // Every sign-up asks for an OTP; the per-address limit is not what is under test here
+        notification.put("app.otp.rate-limit.item-limit", "1000");
+        launcher.launch("notification-service", notificationPort, notification);
+
+        String commonUrl = "http://localhost:" + commonPort + "/common";
+        String notificationUrl = "http://localhost:" + notificationPort + "/notifications";
+
+        Map<String, String> auth = new LinkedHashMap<>();
+        auth.put("spring.datasource.url", infrastructure.jdbcUrl(LocalInfrastructure.AUTH_DATABASE));
+        auth.put("spring.datasource.username", "postgres");
+        auth.put("spring.datasource.password", "postgres");
+        auth.put("application.notification-service.url", notificationUrl + "/password-reset/validate");
+        auth.put("application.common-service.url", commonUrl);
+        auth.put("ehub.http-client.targets.localhost.max-concurrent-calls", LOCALHOST_BULKHEAD);
+        launcher.launch("auth-service", authPort, auth);
+
+        Map<String, String> event = new LinkedHashMap<>();
+        event.put("spring.datasource.url", infrastructure.jdbcUrl(LocalInfrastructure.EVENT_DATABASE));
+        event.put("spring.datasource.username", "postgres");
+        event.put("spring.datasource.password", "postgres");
+        event.put("spring.jpa.show-sql", "false");
+        event.put("spring.data.redis.host", "localhost");
+        event.put("spring.data.redis.port", redisPort);
+        event.put("application.common-service.url", commonUrl);
+        event.put("application.notification-service.url", notificationUrl + "/send-alert");
+        event.put("ehub.http-client.targets.localhost.max-concurrent-calls", LOCALHOST_BULKHEAD);
+        launcher.launch("event-service", eventPort, event);
+
+        Map<String, String> ai = new LinkedHashMap<>();
+        ai.put("spring.data.redis.host", "localhost");
+        ai.put("spring.data.redis.port", redisPort);
+        ai.put("APPLICATION_EVENT_SERVICE_URL", "http://localhost:" + eventPort);
+        // Offline: simulated model, and no GitHub lookups for the result cache
+        ai.put("ai.evaluator", "local");
+        ai.put("ai.local.latency-median", properties.getEvaluatorLatencyMedian().toMillis() + "ms");
+        ai.put("ai.local.error-rate", String.valueOf(properties.getEvaluatorErrorRate()));
+        ai.put("ai.rate-limit.requests-per-minute", String.valueOf(properties.getEvaluatorRequestsPerMinute()));
+        ai.put("ai.cache.enabled", "false");
+        ai.put("ehub.http-client.targets.localhost.max-concurrent-calls", LOCALHOST_BULKHEAD);
+        launcher.launch("ai-service", aiPort, ai);
+
+        String rateLimit = String.valueOf(properties.getGatewayRateLimit());
+        Map<String, String> gateway = new LinkedHashMap<>();
+        gateway.put("spring.data.redis.host", "localhost");
+        gateway.put("spring.data.redis.port", redisPort);
+        gateway.put("AUTH_SERVICE_URI", "http://localhost:" + authPort);
+        gateway.put("NOTIFICATION_SERVICE_URI", "http://localhost:" + notificationPort);
+        gateway.put("EVENT_SERVICE_URI", "http://localhost:" + eventPort);
+        gateway.put("AI_SERVICE_URI", "http://localhost:" + aiPort);
+        for (String route : List.of("AUTH", "NOTIFICATION", "EVENT")) {
+            gateway.put(route + "_RATE_LIMIT_REPLENISH", rateLimit);
+            gateway.put(route + "_RATE_LIMIT_BURST", rateLimit);
+        }
+        launcher.launch("api-gateway", gatewayPort, gateway);
+
+        launcher.awaitReady("common-services", commonPort, "/common/status", properties.getStartupTimeout());
+        launcher.awaitReady("notification-service", notificationPort, "/notifications/send-alert", properties.getStartupTimeout());
+        launcher.awaitReady("auth-service", authPort, "/auth/validate-token?token=x", properties.getStartupTimeout());
+        launcher.awaitReady("event-service", eventPort, "/events/catalog", properties.getStartupTimeout());
+        launcher.awaitReady("ai-service", aiPort, "/ai/jobs/readiness-probe", properties.getStartupTimeout());
+        launcher.awaitReady("api-gateway", gatewayPort, "/auth/validate-token?token=x", properties.getStartupTimeout());
+        return gatewayPort;
+    }
+
+    private Path repositoryRoot() {
+        if (properties.getRepositoryRoot() != null && !properties.getRepositoryRoot().isBlank()) {
+            return Path.of(properties.getRepositoryRoot()).toAbsolutePath().normalize();
+        }
+        Path candidate = Path.of(System.getProperty("user.dir")).toAbsolutePath();
+        while (candidate != null) {
+            if (Files.isDirectory(candidate.resolve("event-service")) && Files.isDirectory(candidate.resolve("api-gateway"))) {
+                return candidate;
+            }
+            candidate = candidate.getParent();
+        }
+        throw new IllegalStateException("Could not locate the EHUB checkout; set loadtest.repository-root");
+    }
+}
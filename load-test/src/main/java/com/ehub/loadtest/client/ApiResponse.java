@@ -0,0 +1,11 @@
+package com.ehub.loadtest.client;
+
+public record ApiResponse(int status, String body) {
+
+    // Recorded when the request never got an HTTP response (connect failure, timeout, reset)
+    public static final int TRANSPORT_ERROR = -1;
+
+    public boolean ok() {
+        return status >= 200 && status < 300;
+    }
+}
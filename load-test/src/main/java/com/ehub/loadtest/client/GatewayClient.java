@@ -0,0 +1,93 @@
+package com.ehub.loadtest.client;
+
+import com.ehub.loadtest.report.LatencyRecorder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+// Issues requests against the api-gateway and records each one under an operation name
+public class GatewayClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public GatewayClient(String baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    public ApiResponse get(String operation, String path, String token) {
+        return send(operation, request(path, token).GET());
+    }
+
+    public ApiResponse post(String operation, String path, String token, Object body) {
+        return send(operation, request(path, token).POST(json(body)));
+    }
+
+    public ApiResponse put(String operation, String path, String token, Object body) {
+        return send(operation, request(path, token).PUT(json(body)));
+    }
+
+    public ApiResponse patch(String operation, String path, String token) {
+        return send(operation, request(path, token).method("PATCH", HttpRequest.BodyPublishers.noBody()));
+    }
+
+    public JsonNode read(ApiResponse response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unexpected response body: " + response.body(), e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize request body", e);
+        }
+    }
+
+    private ApiResponse send(String operation, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            recorder.record(operation, System.nanoTime() - start, response.statusCode());
+            return new ApiResponse(response.statusCode(), response.body());
+        } catch (IOException e) {
+            recorder.record(operation, System.nanoTime() - start, ApiResponse.TRANSPORT_ERROR);
+            return new ApiResponse(ApiResponse.TRANSPORT_ERROR, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ApiResponse(ApiResponse.TRANSPORT_ERROR, "Interrupted");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.ehub.loadtest.infra;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import lombok.extern.slf4j.Slf4j;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Embedded Postgres, a Redis server and an SMTP sink standing in for the docker-compose infrastructure
+@Slf4j
+public class LocalInfrastructure implements AutoCloseable {
+
+    public static final String AUTH_DATABASE = "ehub_auth_db";
+    public static final String EVENT_DATABASE = "ehub_event_db";
+
+    private static final Pattern OTP = Pattern.compile(">\\s*(\\d{6})\\s*<");
+
+    private EmbeddedPostgres postgres;
+    private RedisServer redis;
+    private GreenMail smtp;
+    private int redisPort;
+    private int smtpPort;
+
+    public void start() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + AUTH_DATABASE);
+            statement.execute("CREATE DATABASE " + EVENT_DATABASE);
+        }
+        log.info("Embedded Postgres listening on {}", postgres.getPort());
+
+        redisPort = Ports.free();
+        redis = new RedisServer(redisPort);
+        redis.start();
+        log.info("Embedded Redis listening on {}", redisPort);
+
+        smtpPort = Ports.free();
+        smtp = new GreenMail(new ServerSetup(smtpPort, "127.0.0.1", ServerSetup.PROTOCOL_SMTP))
+                .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+        smtp.start();
+        log.info("SMTP sink listening on {}", smtpPort);
+    }
+
+    public String jdbcUrl(String database) {
+        return "jdbc:postgresql://localhost:" + postgres.getPort() + "/" + database;
+    }
+
+    public int redisPort() {
+        return redisPort;
+    }
+
+    public int smtpPort() {
+        return smtpPort;
+    }
+
+    public int receivedEmails() {
+        return smtp.getReceivedMessages().length;
+    }
+
+    // Reads the code from the newest OTP email delivered to the address
+    public String latestOtp(String email) {
+        Message[] messages = smtp.getReceivedMessages();
+        try {
+            for (int i = messages.length - 1; i >= 0; i--) {
+                if (!isAddressedTo(messages[i], email)) {
+                    continue;
+                }
+                Matcher matcher = OTP.matcher(textOf(messages[i]));
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+        } catch (MessagingException | IOException e) {
+            throw new IllegalStateException("Could not read OTP email for " + email, e);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        if (smtp != null) {
+            smtp.stop();
+        }
+        try {
+            if (redis != null) {
+                redis.stop();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to stop embedded Redis: {}", e.getMessage());
+        }
+        try {
+            if (postgres != null) {
+                postgres.close();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to stop embedded Postgres: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isAddressedTo(Message message, String email) throws MessagingException {
+        Address[] recipients = message.getAllRecipients();
+        if (recipients == null) {
+            return false;
+        }
+        for (Address recipient : recipients) {
+            if (recipient.toString().equalsIgnoreCase(email)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String textOf(Part part) throws MessagingException, IOException {
+        if (part.isMimeType("text/*")) {
+            return String.valueOf(part.getContent());
+        }
+        if (part.isMimeType("multipart/*")) {
+            Multipart multipart = (Multipart) part.getContent();
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                text.append(textOf(multipart.getBodyPart(i)));
+            }
+            return text.toString();
+        }
+        return "";
+    }
+}
@@ -0,0 +1,112 @@
+package com.ehub.loadtest.infra;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Runs the built service jars as child JVMs, each with its own log file
+@Slf4j
+public class ServiceLauncher implements AutoCloseable {
+
+    private final Path repositoryRoot;
+    private final Path logDirectory;
+    private final List<String> jvmOptions;
+    private final Map<String, Process> processes = new LinkedHashMap<>();
+    private final HttpClient probeClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public ServiceLauncher(Path repositoryRoot, Path logDirectory, String jvmOptions) {
+        this.repositoryRoot = repositoryRoot;
+        this.logDirectory = logDirectory;
+        this.jvmOptions = jvmOptions == null || jvmOptions.isBlank()
+                ? List.of()
+                : Arrays.asList(jvmOptions.trim().split("\\s+"));
+    }
+
+    public void launch(String service, int port, Map<String, String> properties) throws IOException {
+        Path jar = findJar(service);
+        Files.createDirectories(logDirectory);
+        Path logFile = logDirectory.resolve(service + ".log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        properties.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        processes.put(service, process);
+        log.info("Started {} on port {} (log: {})", service, port, logFile);
+    }
+
+    // A service is ready once it answers HTTP at all; any status means the servlet container is up
+    public void awaitReady(String service, int port, String probePath, Duration timeout) throws InterruptedException {
+        Process process = processes.get(service);
+        URI probe = URI.create("http://localhost:" + port + probePath);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service + " exited with code " + process.exitValue()
+                        + "; see " + logDirectory.resolve(service + ".log"));
+            }
+            try {
+                probeClient.send(HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(2)).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                log.info("{} is ready", service);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException(service + " did not become ready within " + timeout);
+    }
+
+    @Override
+    public void close() {
+        processes.values().forEach(Process::destroy);
+        for (Map.Entry<String, Process> entry : processes.entrySet()) {
+            try {
+                if (!entry.getValue().waitFor(15, TimeUnit.SECONDS)) {
+                    entry.getValue().destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                entry.getValue().destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Path findJar(String service) throws IOException {
+        Path target = repositoryRoot.resolve(service).resolve("target");
+        if (!Files.isDirectory(target)) {
+            throw new IllegalStateException("No build output for " + service + "; run mvn package in " + service + " first");
+        }
+        try (Stream<Path> jars = Files.list(target)) {
+            // Prefer the executable boot jar when the service also installs a plain one
+            return jars.filter(path -> path.getFileName().toString().endsWith(".jar"))
+                    .max(Comparator.comparing((Path path) -> path.getFileName().toString().endsWith("-exec.jar")))
+                    .orElseThrow(() -> new IllegalStateException("No jar found in " + target));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ehub.loadtest.report;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Collects per-operation latencies for the scenario that is currently running
+public class LatencyRecorder {
+
+    private final List<ScenarioResult> results = new ArrayList<>();
+    private volatile ScenarioResult current;
+
+    public void startScenario(String name) {
+        current = new ScenarioResult(name);
+    }
+
+    public ScenarioResult finishScenario() {
+        ScenarioResult result = current;
+        current = null;
+        result.finish();
+        results.add(result);
+        return result;
+    }
+
+    public void record(String operation, long nanos, int status) {
+        ScenarioResult scenario = current;
+        if (scenario != null) {
+            scenario.record(operation, nanos, status);
+        }
+    }
+
+    public void metric(String name, double value) {
+        ScenarioResult scenario = current;
+        if (scenario != null) {
+            scenario.metric(name, value);
+        }
+    }
+
+    public List<ScenarioResult> results() {
+        return List.copyOf(results);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ehub.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Renders scenario results as a markdown table (also printed) and as JSON for comparisons between runs
+public class ReportWriter {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final ObjectMapper objectMapper;
+
+    public ReportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String write(List<ScenarioResult> results, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String markdown = markdown(results);
+        Files.writeString(directory.resolve("report.md"), markdown);
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), json(results));
+        return markdown;
+    }
+
+    private String markdown(List<ScenarioResult> results) {
+        StringBuilder out = new StringBuilder("# Load Test Report\n");
+        for (ScenarioResult scenario : results) {
+            double seconds = Math.max(scenario.elapsed().toMillis() / 1000.0, 0.001);
+            out.append(String.format(Locale.ROOT, "%n## %s%n%n%d requests in %.1fs (%.1f req/s), error rate %.2f%%%n%n",
+                    scenario.name(), scenario.requests(), seconds, scenario.requests() / seconds,
+                    scenario.errorRate() * 100));
+            out.append("| Operation | Requests | Errors | Error % | p50 ms | p90 ms | p95 ms | p99 ms | Max ms | Statuses |\n");
+            out.append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+            scenario.operations().forEach((operation, stats) -> {
+                out.append(String.format(Locale.ROOT, "| %s | %d | %d | %.2f |", operation, stats.count(), stats.errors(),
+                        stats.errorRate() * 100));
+                for (double percentile : PERCENTILES) {
+                    out.append(String.format(Locale.ROOT, " %.1f |", stats.percentileMillis(percentile)));
+                }
+                out.append(String.format(Locale.ROOT, " %.1f | %s |%n", stats.maxMillis(), stats.statusCounts()));
+            });
+            if (!scenario.metrics().isEmpty()) {
+                out.append('\n');
+                scenario.metrics().forEach((name, value) ->
+                        out.append(String.format(Locale.ROOT, "- %s: %.2f%n", name, value)));
+            }
+        }
+        return out.toString();
+    }
+
+    private List<Map<String, Object>> json(List<ScenarioResult> results) {
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        for (ScenarioResult scenario : results) {
+            Map<String, Object> operations = new LinkedHashMap<>();
+            scenario.operations().forEach((operation, stats) -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("requests", stats.count());
+                entry.put("errors", stats.errors());
+                entry.put("errorRate", stats.errorRate());
+                for (double percentile : PERCENTILES) {
+                    entry.put("p" + (int) percentile + "Millis", stats.percentileMillis(percentile));
+                }
+                entry.put("maxMillis", stats.maxMillis());
+                entry.put("statuses", stats.statusCounts());
+                operations.put(operation, entry);
+            });
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("scenario", scenario.name());
+            entry.put("elapsedMillis", scenario.elapsed().toMillis());
+            entry.put("requests", scenario.requests());
+            entry.put("errors", scenario.errors());
+            entry.put("errorRate", scenario.errorRate());
+            entry.put("operations", operations);
+            entry.put("metrics", scenario.metrics());
+            scenarios.add(entry);
+        }
+        return scenarios;
+    }
+}
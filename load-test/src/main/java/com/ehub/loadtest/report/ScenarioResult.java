@@ -0,0 +1,60 @@
+package com.ehub.loadtest.report;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class ScenarioResult {
+
+    private final String name;
+    private final long startedAt = System.nanoTime();
+    private final Map<String, OperationStats> operations = new ConcurrentSkipListMap<>();
+    // Scenario-level figures that are not request latencies, e.g. end-to-end job throughput
+    private final Map<String, Double> metrics = new ConcurrentSkipListMap<>();
+    private Duration elapsed;
+
+    ScenarioResult(String name) {
+        this.name = name;
+    }
+
+    void record(String operation, long nanos, int status) {
+        operations.computeIfAbsent(operation, key -> new OperationStats()).record(nanos, status);
+    }
+
+    void metric(String name, double value) {
+        metrics.put(name, value);
+    }
+
+    void finish() {
+        elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    public Map<String, OperationStats> operations() {
+        return operations;
+    }
+
+    public Map<String, Double> metrics() {
+        return metrics;
+    }
+
+    public long requests() {
+        return operations.values().stream().mapToLong(OperationStats::count).sum();
+    }
+
+    public long errors() {
+        return operations.values().stream().mapToLong(OperationStats::errors).sum();
+    }
+
+    public double errorRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) errors() / requests;
+    }
+}
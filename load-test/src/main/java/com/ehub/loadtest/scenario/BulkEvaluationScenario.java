@@ -0,0 +1,89 @@
+package com.ehub.loadtest.scenario;
+
+import com.ehub.loadtest.LoadTestProperties;
+import com.ehub.loadtest.client.ApiResponse;
+import com.ehub.loadtest.client.GatewayClient;
+import com.ehub.loadtest.report.LatencyRecorder;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+// Judging wraps up: the organizer runs the bulk AI evaluation over every submitted team while a few leaders
+// ask for a manual re-evaluation. Measures the whole path: context fetch, queueing, scoring and write-back.
+public class BulkEvaluationScenario implements Scenario {
+
+    private final LatencyRecorder recorder;
+
+    public BulkEvaluationScenario(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public String name() {
+        return "bulk evaluation throughput";
+    }
+
+    @Override
+    public void run(Hackathon hackathon) throws InterruptedException {
+        LoadTestProperties properties = hackathon.getProperties();
+        GatewayClient client = hackathon.getClient();
+        Participant organizer = hackathon.getOrganizer();
+        String eventId = hackathon.getEventId();
+
+        long start = System.nanoTime();
+        ApiResponse submitted = client.post("ai.evaluate-event", "/ai/evaluate-event/" + eventId, organizer.getToken(), null);
+        if (!submitted.ok()) {
+            throw new IllegalStateException("Could not start the bulk evaluation: " + submitted.status() + " " + submitted.body());
+        }
+
+        // Manual evaluations take the priority lane and should return promptly despite the bulk backlog
+        List<TeamPlan> manual = hackathon.formedTeams().stream().limit(properties.getManualEvaluations()).toList();
+        Thread manualEvaluations = new Thread(() -> {
+            try {
+                Workers.spike("manual-evaluation", manual, manual.size(), team ->
+                        client.post("ai.evaluate-team", "/ai/evaluate/" + team.getTeamId(), team.getLeader().getToken(), null));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "manual-evaluations");
+        manualEvaluations.start();
+
+        JsonNode progress = awaitCompletion(hackathon, start);
+        manualEvaluations.join();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long completed = progress.path("completed").asLong();
+        long failed = progress.path("failed").asLong();
+        recorder.metric("teams evaluated", completed);
+        recorder.metric("teams failed", failed);
+        recorder.metric("job seconds", seconds);
+        recorder.metric("teams per second", (completed + failed) / Math.max(seconds, 0.001));
+
+        // Scores landed in event-service
+        client.get("leaderboard.page", "/events/" + eventId + "/leaderboard?offset=0&limit=20", organizer.getToken());
+
+        if (!"COMPLETED".equals(progress.path("status").asText())) {
+            throw new IllegalStateException("Bulk evaluation ended as " + progress.path("status").asText());
+        }
+    }
+
+    private JsonNode awaitCompletion(Hackathon hackathon, long start) throws InterruptedException {
+        LoadTestProperties properties = hackathon.getProperties();
+        GatewayClient client = hackathon.getClient();
+        String path = "/ai/jobs/" + hackathon.getEventId();
+        long deadline = start + properties.getEvaluationTimeout().toNanos();
+
+        while (System.nanoTime() < deadline) {
+            ApiResponse response = client.get("ai.job-progress", path, hackathon.getOrganizer().getToken());
+            if (response.ok()) {
+                JsonNode progress = client.read(response);
+                String status = progress.path("status").asText();
+                if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                    return progress;
+                }
+            }
+            Workers.pause(properties.getEvaluationPollInterval());
+        }
+        throw new IllegalStateException("Bulk evaluation did not finish within " + properties.getEvaluationTimeout());
+    }
+}
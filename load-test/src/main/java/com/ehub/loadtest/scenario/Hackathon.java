@@ -0,0 +1,164 @@
+package com.ehub.loadtest.scenario;
+
+import com.ehub.loadtest.LoadTestProperties;
+import com.ehub.loadtest.client.ApiResponse;
+import com.ehub.loadtest.client.GatewayClient;
+import com.ehub.loadtest.infra.LocalInfrastructure;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Shared state of the simulated hackathon: one event, its organizer, participants and teams
+@Getter
+public class Hackathon {
+
+    public enum Phase { REGISTRATION, ONGOING, JUDGING }
+
+    private final LoadTestProperties properties;
+    private final GatewayClient client;
+    private final LocalInfrastructure infrastructure;
+    private final String runId = Long.toString(System.currentTimeMillis() % 100_000_000L, 36);
+    private final List<Participant> participants = new ArrayList<>();
+    private final List<TeamPlan> teams = new ArrayList<>();
+
+    private Participant organizer;
+    private String eventId;
+
+    public Hackathon(LoadTestProperties properties, GatewayClient client, LocalInfrastructure infrastructure) {
+        this.properties = properties;
+        this.client = client;
+        this.infrastructure = infrastructure;
+        for (int i = 0; i < properties.getParticipants(); i++) {
+            participants.add(Participant.create(runId, i));
+        }
+    }
+
+    public void createEvent() {
+        organizer = new Participant("lt" + runId + "org", "organizer-" + runId + "@loadtest.ehub.local", "LoadTest-" + runId);
+        if (!signUp(organizer)) {
+            throw new IllegalStateException("Could not sign up the organizer through the gateway");
+        }
+        ApiResponse response = client.post("event.create", "/events", organizer.getToken(), eventRequest(Phase.REGISTRATION));
+        if (!response.ok()) {
+            throw new IllegalStateException("Could not create the event: " + response.status() + " " + response.body());
+        }
+        eventId = response.body().trim();
+    }
+
+    // OTP request, OTP email picked up from the SMTP sink, account creation and profile lookup
+    public boolean signUp(Participant participant) {
+        ApiResponse otpRequest = client.post("auth.request-otp",
+                "/auth/register/otp?email=" + encode(participant.getEmail()), null, null);
+        if (!otpRequest.ok()) {
+            return false;
+        }
+        String otp = infrastructure.latestOtp(participant.getEmail());
+        if (otp == null) {
+            return false;
+        }
+
+        Map<String, Object> registration = Map.of(
+                "username", participant.getUsername(),
+                "email", participant.getEmail(),
+                "password", participant.getPassword(),
+                "otp", otp);
+        ApiResponse registered = client.post("auth.register", "/auth/register", null, registration);
+        if (!registered.ok()) {
+            return false;
+        }
+        participant.setToken(client.read(registered).path("token").asText(null));
+
+        ApiResponse profile = client.get("auth.profile", "/auth/profile", participant.getToken());
+        if (!profile.ok()) {
+            return false;
+        }
+        participant.setUserId(client.read(profile).path("id").asText(null));
+        return participant.signedUp();
+    }
+
+    public boolean login(Participant participant) {
+        ApiResponse response = client.post("auth.login", "/auth/login", null,
+                Map.of("username", participant.getUsername(), "password", participant.getPassword()));
+        if (!response.ok()) {
+            return false;
+        }
+        participant.setToken(client.read(response).path("token").asText(null));
+        return participant.getToken() != null;
+    }
+
+    public ApiResponse dashboard(Participant participant) {
+        return client.get("participant.dashboard",
+                "/events/participant/" + encode(participant.getUserId()) + "/dashboard", participant.getToken());
+    }
+
+    // Finds the team the participant leads or belongs to in this event from their dashboard
+    public String teamIdFromDashboard(ApiResponse dashboard) {
+        if (!dashboard.ok()) {
+            return null;
+        }
+        for (JsonNode membership : client.read(dashboard).path("teams")) {
+            if (eventId.equals(membership.path("eventId").asText())) {
+                return membership.path("teamId").asText(null);
+            }
+        }
+        return null;
+    }
+
+    // Moves the event along its timeline by rescheduling it, as an organizer editing the dates would
+    public void advanceTo(Phase phase) {
+        ApiResponse response = client.put("event.update",
+                "/events/" + eventId + "?requesterId=" + encode(organizer.getUserId()), organizer.getToken(),
+                eventRequest(phase));
+        if (!response.ok()) {
+            throw new IllegalStateException("Could not move the event to " + phase + ": " + response.body());
+        }
+    }
+
+    public List<TeamPlan> formedTeams() {
+        return teams.stream().filter(team -> team.getTeamId() != null).toList();
+    }
+
+    public static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Object> eventRequest(Phase phase) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("name", "Load Test Hackathon " + runId);
+        request.put("description", "Synthetic event driven by the load-test harness.");
+        request.put("theme", "Performance");
+        request.put("contactEmail", organizer.getEmail());
+        request.put("prizes", List.of("First place", "Second place", "Third place"));
+        request.put("rules", List.of("Teams of up to " + properties.getTeamSize(), "Submit before the deadline"));
+        request.put("virtual", true);
+        request.put("location", "Online");
+        request.put("maxParticipants", properties.getParticipants() + 10);
+        request.put("teamSize", properties.getTeamSize());
+        request.put("judging", true);
+        request.put("organizerId", organizer.getUserId());
+
+        switch (phase) {
+            case REGISTRATION -> schedule(request, now.minusHours(1), now.plusDays(1), now.plusDays(2), now.plusDays(3), now.plusDays(4));
+            case ONGOING -> schedule(request, now.minusDays(2), now.minusDays(1), now.minusMinutes(1), now.plusDays(1), now.plusDays(2));
+            case JUDGING -> schedule(request, now.minusDays(3), now.minusDays(2), now.minusDays(1), now.minusMinutes(1), now.plusDays(1));
+        }
+        return request;
+    }
+
+    private static void schedule(Map<String, Object> request, LocalDateTime registrationStart, LocalDateTime registrationEnd,
+                                 LocalDateTime start, LocalDateTime end, LocalDateTime results) {
+        request.put("registrationStartDate", registrationStart);
+        request.put("registrationEndDate", registrationEnd);
+        request.put("startDate", start);
+        request.put("endDate", end);
+        request.put("resultsDate", results);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ehub.loadtest.scenario;
+
+import com.ehub.loadtest.LoadTestProperties;
+import com.ehub.loadtest.client.GatewayClient;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Judging: scores stream in while every participant keeps refreshing the leaderboard and their own rank
+public class LeaderboardStormScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "judging leaderboard storm";
+    }
+
+    @Override
+    public void run(Hackathon hackathon) throws InterruptedException {
+        hackathon.advanceTo(Hackathon.Phase.JUDGING);
+
+        LoadTestProperties properties = hackathon.getProperties();
+        GatewayClient client = hackathon.getClient();
+        List<TeamPlan> teams = hackathon.formedTeams();
+        List<Participant> viewers = hackathon.getParticipants().stream().filter(Participant::signedUp).toList();
+        if (teams.isEmpty() || viewers.isEmpty()) {
+            throw new IllegalStateException("No teams or participants left to drive the leaderboard storm");
+        }
+        String leaderboardPath = "/events/" + hackathon.getEventId() + "/leaderboard";
+        String organizerToken = hackathon.getOrganizer().getToken();
+
+        ScheduledExecutorService scorer = Executors.newSingleThreadScheduledExecutor();
+        long periodMicros = 1_000_000L / Math.max(1, properties.getScoreUpdatesPerSecond());
+        scorer.scheduleAtFixedRate(() -> {
+            TeamPlan team = teams.get(ThreadLocalRandom.current().nextInt(teams.size()));
+            double score = Math.round(ThreadLocalRandom.current().nextDouble(40, 100) * 100) / 100.0;
+            client.post("team.score", "/events/teams/" + team.getTeamId() + "/score?score=" + score, organizerToken, null);
+        }, 0, periodMicros, TimeUnit.MICROSECONDS);
+
+        try {
+            Workers.repeat("leaderboard", properties.getLeaderboardReaders(), properties.getLeaderboardDuration(), () -> {
+                Participant viewer = viewers.get(ThreadLocalRandom.current().nextInt(viewers.size()));
+                client.get("leaderboard.page", leaderboardPath + "?offset=0&limit=20", viewer.getToken());
+                if (viewer.getTeamId() != null) {
+                    client.get("leaderboard.team", leaderboardPath + "/teams/" + viewer.getTeamId(), viewer.getToken());
+                }
+                Workers.pause(properties.getLeaderboardThinkTime());
+            });
+        } finally {
+            scorer.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ehub.loadtest.scenario;
+
+import lombok.Data;
+
+@Data
+public class Participant {
+    private final String username;
+    private final String email;
+    private final String password;
+
+    // Filled in as the participant signs up and moves through the hackathon
+    private volatile String userId;
+    private volatile String token;
+    private volatile boolean registered;
+    private volatile String teamId;
+
+    public static Participant create(String runId, int index) {
+        String username = "lt" + runId + index;
+        return new Participant(username, username + "@loadtest.ehub.local", "LoadTest-" + runId);
+    }
+
+    public boolean signedUp() {
+        return token != null && userId != null;
+    }
+}
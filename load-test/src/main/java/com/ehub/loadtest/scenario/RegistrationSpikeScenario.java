@@ -0,0 +1,33 @@
+package com.ehub.loadtest.scenario;
+
+import com.ehub.loadtest.client.ApiResponse;
+import com.ehub.loadtest.client.GatewayClient;
+
+import java.util.Map;
+
+// Registration opens: every participant signs up, opens the event page and registers at once
+public class RegistrationSpikeScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "registration-open spike";
+    }
+
+    @Override
+    public void run(Hackathon hackathon) throws InterruptedException {
+        GatewayClient client = hackathon.getClient();
+        String eventPath = "/events/" + hackathon.getEventId();
+
+        Workers.spike("registration", hackathon.getParticipants(), hackathon.getProperties().getConcurrency(), participant -> {
+            if (!hackathon.signUp(participant)) {
+                return;
+            }
+            client.get("event.detail", eventPath, participant.getToken());
+            ApiResponse registered = client.post("event.register", eventPath + "/register", participant.getToken(), Map.of(
+                    "userId", participant.getUserId(),
+                    "username", participant.getUsername(),
+                    "userEmail", participant.getEmail()));
+            participant.setRegistered(registered.ok());
+        });
+    }
+}
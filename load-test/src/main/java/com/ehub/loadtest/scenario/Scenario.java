@@ -0,0 +1,8 @@
+package com.ehub.loadtest.scenario;
+
+public interface Scenario {
+
+    String name();
+
+    void run(Hackathon hackathon) throws InterruptedException;
+}
@@ -0,0 +1,44 @@
+package com.ehub.loadtest.scenario;
+
+import com.ehub.loadtest.client.ApiResponse;
+import com.ehub.loadtest.client.GatewayClient;
+
+import java.util.Map;
+
+// The event is running and the deadline is near: every leader submits, then pushes a last-minute fix
+public class SubmissionDeadlineScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "submission-deadline burst";
+    }
+
+    @Override
+    public void run(Hackathon hackathon) throws InterruptedException {
+        hackathon.advanceTo(Hackathon.Phase.ONGOING);
+
+        GatewayClient client = hackathon.getClient();
+        String eventPath = "/events/" + hackathon.getEventId();
+        Workers.spike("submission", hackathon.formedTeams(), hackathon.getProperties().getConcurrency(), team -> {
+            Participant leader = team.getLeader();
+            String submitPath = "/events/teams/" + team.getTeamId() + "/submit?userId=" + Hackathon.encode(leader.getUserId());
+            String repository = "https://github.com/ehub-load-test/" + leader.getUsername();
+
+            client.get("event.detail", eventPath, leader.getToken());
+            ApiResponse submitted = client.post("team.submit", submitPath, leader.getToken(), Map.of(
+                    "repoUrl", repository,
+                    "demoUrl", "https://demo.ehub.dev/" + leader.getUsername()));
+            if (submitted.ok()) {
+                client.post("team.submit", submitPath, leader.getToken(), Map.of(
+                        "repoUrl", repository + "-final",
+                        "demoUrl", "https://demo.ehub.dev/" + leader.getUsername()));
+            }
+            // Teammates refresh to confirm the submission went through
+            for (Participant member : team.getMembers()) {
+                if (member.getTeamId() != null) {
+                    hackathon.dashboard(member);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.ehub.loadtest.scenario;
+
+import com.ehub.loadtest.client.ApiResponse;
+import com.ehub.loadtest.client.GatewayClient;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// The organizer approves registrations, then every team forms in parallel: create, invite, accept
+public class TeamFormationScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "team-formation frenzy";
+    }
+
+    @Override
+    public void run(Hackathon hackathon) throws InterruptedException {
+        approveRegistrations(hackathon);
+        planTeams(hackathon);
+
+        GatewayClient client = hackathon.getClient();
+        String eventId = hackathon.getEventId();
+        Workers.spike("team-formation", hackathon.getTeams(), hackathon.getProperties().getConcurrency(), team -> {
+            Participant leader = team.getLeader();
+            if (!hackathon.login(leader)) {
+                return;
+            }
+            ApiResponse created = client.post("team.create", "/events/teams/" + eventId, leader.getToken(), Map.of(
+                    "name", "Team " + leader.getUsername(),
+                    "userId", leader.getUserId(),
+                    "username", leader.getUsername(),
+                    "userEmail", leader.getEmail()));
+            if (!created.ok()) {
+                return;
+            }
+            String teamId = hackathon.teamIdFromDashboard(hackathon.dashboard(leader));
+            if (teamId == null) {
+                return;
+            }
+            team.setTeamId(teamId);
+            leader.setTeamId(teamId);
+
+            for (Participant member : team.getMembers()) {
+                ApiResponse invited = client.post("team.invite",
+                        "/events/teams/" + teamId + "/invite?leaderId=" + Hackathon.encode(leader.getUserId()),
+                        leader.getToken(), Map.of(
+                                "userId", member.getUserId(),
+                                "username", member.getUsername(),
+                                "userEmail", member.getEmail()));
+                if (!invited.ok()) {
+                    continue;
+                }
+                // The invitee sees the invitation on their dashboard and accepts it
+                hackathon.dashboard(member);
+                ApiResponse accepted = client.patch("team.respond",
+                        "/events/teams/" + teamId + "/respond?userId=" + Hackathon.encode(member.getUserId()) + "&accept=true",
+                        member.getToken());
+                if (accepted.ok()) {
+                    member.setTeamId(teamId);
+                }
+            }
+        });
+    }
+
+    private void approveRegistrations(Hackathon hackathon) throws InterruptedException {
+        GatewayClient client = hackathon.getClient();
+        Participant organizer = hackathon.getOrganizer();
+        ApiResponse response = client.get("event.registrations",
+                "/events/" + hackathon.getEventId() + "/registrations", organizer.getToken());
+        if (!response.ok()) {
+            throw new IllegalStateException("Could not list registrations: " + response.body());
+        }
+
+        List<String> pending = new ArrayList<>();
+        for (JsonNode registration : client.read(response)) {
+            if ("PENDING".equals(registration.path("status").asText())) {
+                pending.add(registration.path("id").asText());
+            }
+        }
+
+        String query = "?requesterId=" + Hackathon.encode(organizer.getUserId()) + "&status=APPROVED";
+        Workers.spike("approval", pending, Math.max(1, hackathon.getProperties().getConcurrency() / 10), registrationId ->
+                client.patch("event.approve", "/events/registrations/" + registrationId + "/status" + query,
+                        organizer.getToken()));
+    }
+
+    private void planTeams(Hackathon hackathon) {
+        int teamSize = hackathon.getProperties().getTeamSize();
+        List<Participant> registered = hackathon.getParticipants().stream().filter(Participant::isRegistered).toList();
+        for (int start = 0; start + 1 < registered.size(); start += teamSize) {
+            List<Participant> group = registered.subList(start, Math.min(start + teamSize, registered.size()));
+            hackathon.getTeams().add(new TeamPlan(group.get(0), List.copyOf(group.subList(1, group.size()))));
+        }
+    }
+}
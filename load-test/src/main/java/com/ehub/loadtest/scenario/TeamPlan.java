@@ -0,0 +1,13 @@
+package com.ehub.loadtest.scenario;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TeamPlan {
+    private final Participant leader;
+    private final List<Participant> members;
+
+    private volatile String teamId;
+}
@@ -0,0 +1,89 @@
+package com.ehub.loadtest.scenario;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Slf4j
+final class Workers {
+
+    private Workers() {
+    }
+
+    // Runs one task per item on `concurrency` threads, released together so the first wave lands as a spike
+    static <T> void spike(String name, Collection<T> items, int concurrency, Consumer<T> task) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, concurrency), threadFactory(name));
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(pool.submit(() -> {
+                gate.await();
+                task.accept(item);
+                return null;
+            }));
+        }
+        gate.countDown();
+        pool.shutdown();
+        awaitAll(name, futures);
+    }
+
+    // Keeps `workers` threads looping over the iteration until the duration has elapsed
+    static void repeat(String name, int workers, Duration duration, Runnable iteration) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, workers), threadFactory(name));
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(pool.submit(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    iteration.run();
+                }
+            }));
+        }
+        pool.shutdown();
+        awaitAll(name, futures);
+    }
+
+    static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitAll(String name, List<Future<?>> futures) throws InterruptedException {
+        int failures = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failures++ == 0) {
+                    log.warn("{} task failed: {}", name, e.getCause().toString());
+                }
+            }
+        }
+        if (failures > 1) {
+            log.warn("{} tasks failed in {}", failures, name);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Builds the services and the benchmark jar, then records results with the GC profiler
+# so both time per operation and allocation per operation are captured.
+#
+# Usage (from the repository root):
+#   microbenchmarks/run-baseline.sh                       # every benchmark -> results/baseline.json
+#   microbenchmarks/run-baseline.sh JwtServiceBenchmark   # one benchmark class
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+FILTER="${1:-.*}"
+OUTPUT="${OUTPUT:-$ROOT/microbenchmarks/results/baseline.json}"
+
+mvn -q -f "$ROOT/http-client/pom.xml" install -DskipTests
+# Skipping the repackage installs each service's plain jar locally, so its classes can be put on
+# the benchmark classpath; the boot jars the Dockerfiles build are unaffected.
+for service in event-service auth-service api-gateway notification-service; do
+  mvn -q -f "$ROOT/$service/pom.xml" install -DskipTests -Dspring-boot.repackage.skip=true
+done
+mvn -q -f "$ROOT/microbenchmarks/pom.xml" package
+
+java -jar "$ROOT/microbenchmarks/target/benchmarks.jar" "$FILTER" -prof gc -rf json -rff "$OUTPUT"
@@ -0,0 +1,51 @@
+package com.ehub.event.entity;
+
+import com.ehub.event.util.EventStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EventStatusBenchmark {
+
+    // Lifecycle phase the event is in; later phases walk further down the status checks
+    @Param({"UPCOMING", "REGISTRATION_OPEN", "ONGOING", "JUDGING", "COMPLETED"})
+    public EventStatus phase;
+
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        event = switch (phase) {
+            case REGISTRATION_OPEN -> event(-1, 1, 2, 3, 4, true);
+            case ONGOING -> event(-3, -2, -1, 1, 2, true);
+            case JUDGING -> event(-4, -3, -2, -1, 1, true);
+            case COMPLETED -> event(-5, -4, -3, -2, -1, false);
+            default -> event(1, 2, 3, 4, 5, true);
+        };
+    }
+
+    @Benchmark
+    public EventStatus calculateCurrentStatus() {
+        return event.calculateCurrentStatus();
+    }
+
+    private static Event event(long registrationStart, long registrationEnd, long start, long end, long results,
+                               boolean judging) {
+        LocalDateTime now = LocalDateTime.now();
+        return Event.builder()
+                .registrationStartDate(now.plusDays(registrationStart))
+                .registrationEndDate(now.plusDays(registrationEnd))
+                .startDate(now.plusDays(start))
+                .endDate(now.plusDays(end))
+                .resultsDate(now.plusDays(results))
+                .judging(judging)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ehub.event.service;
+
+import com.ehub.event.dto.EventResponse;
+import com.ehub.event.entity.Event;
+import com.ehub.event.entity.ProblemStatement;
+import com.ehub.event.util.EventStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EventMappingBenchmark {
+
+    @Param({"0", "5", "50"})
+    public int problemStatements;
+
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        event = Event.builder()
+                .id("0190f5a2-7c1e-7b3a-9d4e-2f6a8b1c3d5e")
+                .shortCode("K7Q2M9XD")
+                .name("Benchmark Hackathon")
+                .description("A two-day hackathon used to size event detail responses.")
+                .theme("Open Innovation")
+                .contactEmail("organizer@ehub.dev")
+                .prizes(List.of("1st: 5000", "2nd: 2500", "3rd: 1000"))
+                .rules(List.of("Teams of up to four", "Original work only", "Submit before the deadline"))
+                .registrationStartDate(now.minusDays(7))
+                .registrationEndDate(now.plusDays(7))
+                .startDate(now.plusDays(14))
+                .endDate(now.plusDays(16))
+                .resultsDate(now.plusDays(20))
+                .venue("Main Hall")
+                .location("Bengaluru")
+                .maxParticipants(500)
+                .teamSize(4)
+                .status(EventStatus.REGISTRATION_OPEN)
+                .organizerId("0190f5a2-0000-7000-8000-000000000001")
+                .build();
+        for (int i = 0; i < problemStatements; i++) {
+            event.getProblemStatements().add(ProblemStatement.builder()
+                    .id("ps-" + i)
+                    .statementId("PS" + (i + 1))
+                    .statement("Problem statement " + (i + 1) + ": build something that matters.")
+                    .event(event)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public EventResponse mapToEventResponse() {
+        return EventService.mapToEventResponse(event);
+    }
+}
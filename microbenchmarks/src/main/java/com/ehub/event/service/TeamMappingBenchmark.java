@@ -0,0 +1,62 @@
+package com.ehub.event.service;
+
+import com.ehub.event.dto.TeamResponse;
+import com.ehub.event.entity.Team;
+import com.ehub.event.entity.TeamMember;
+import com.ehub.event.util.TeamMemberStatus;
+import com.ehub.event.util.TeamRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TeamMappingBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int members;
+
+    private Team team;
+    private List<TeamMember> teamMembers;
+
+    @Setup
+    public void setUp() {
+        team = Team.builder()
+                .id("0190f5a2-7c1e-7b3a-9d4e-000000000100")
+                .name("Benchmark Builders")
+                .shortCode("T4M8QX")
+                .eventId("0190f5a2-7c1e-7b3a-9d4e-2f6a8b1c3d5e")
+                .problemStatementId("ps-1")
+                .repoUrl("https://github.com/ehub/benchmark-builders")
+                .demoUrl("https://demo.ehub.dev/benchmark-builders")
+                .submissionTime(LocalDateTime.now())
+                .leaderId("user-0")
+                .score(87.5)
+                .build();
+        teamMembers = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            teamMembers.add(TeamMember.builder()
+                    .id("member-" + i)
+                    .team(team)
+                    .eventId(team.getEventId())
+                    .userId("user-" + i)
+                    .username("participant" + i)
+                    .userEmail("participant" + i + "@ehub.dev")
+                    .role(i == 0 ? TeamRole.LEADER : TeamRole.MEMBER)
+                    .status(TeamMemberStatus.ACCEPTED)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public TeamResponse mapToTeamResponse() {
+        return TeamService.mapToTeamResponse(team, teamMembers);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ehub.event.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ShortCodeGeneratorBenchmark {
+
+    @Benchmark
+    public String generate() {
+        return ShortCodeGenerator.generate(8);
+    }
+
+    // The generator shares one SecureRandom, so concurrent callers contend on it
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return ShortCodeGenerator.generate(8);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ehub.gateway.filter;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RouteValidatorBenchmark {
+
+    // An open endpoint that matches early, and secured paths that scan every open endpoint
+    @Param({"/auth/login", "/events/catalog", "/events/teams/event/0190f5a2-7c1e-7b3a-9d4e-2f6a8b1c3d5e/leaderboard"})
+    public String path;
+
+    private RouteValidator routeValidator;
+    private MockServerHttpRequest request;
+
+    @Setup
+    public void setUp() {
+        routeValidator = new RouteValidator();
+        request = MockServerHttpRequest.get(path).build();
+    }
+
+    @Benchmark
+    public boolean isSecured() {
+        return routeValidator.isSecured.test(request);
+    }
+}
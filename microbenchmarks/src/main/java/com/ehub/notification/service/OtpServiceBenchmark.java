@@ -0,0 +1,36 @@
+package com.ehub.notification.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class OtpServiceBenchmark {
+
+    private String email;
+    private int otpValue;
+
+    @Setup
+    public void setUp() {
+        email = "participant@ehub.dev";
+        otpValue = 42_137;
+    }
+
+    // Builds the OTP and rate-limit keys the way generateOtp does on every request
+    @Benchmark
+    public void keys(Blackhole blackhole) {
+        blackhole.consume(OtpService.otpKey(email));
+        blackhole.consume(OtpService.limitKey(email));
+    }
+
+    @Benchmark
+    public String formatOtp() {
+        return OtpService.formatOtp(otpValue);
+    }
+}
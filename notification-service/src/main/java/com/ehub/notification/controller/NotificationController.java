@@ -1,5 +1,7 @@
 package com.ehub.notification.controller;
 
+import com.ehub.notification.dto.BulkEmailRequest;
+import com.ehub.notification.dto.BulkEmailResponse;
 import com.ehub.notification.dto.EmailRequest;
 import com.ehub.notification.dto.OtpRequest;
 import com.ehub.notification.dto.OtpValidationRequest;
@@ -8,20 +10,27 @@ import com.ehub.notification.service.OtpService;
 import com.ehub.notification.util.MessageKeys;
 import com.ehub.notification.util.NotificationTemplate;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/notifications")
 @RequiredArgsConstructor
+@Slf4j
 public class NotificationController {
 
     private final EmailService emailService;
     private final OtpService otpService;
+    private final Validator validator;
 
     @PostMapping("/send-alert")
     public ResponseEntity<String> sendAlert(@Valid @RequestBody EmailRequest request) {
@@ -31,6 +40,29 @@ public class NotificationController {
         return ResponseEntity.ok(MessageKeys.ALERT_SENT_SUCCESS.getMessage());
     }
 
+    @PostMapping("/send-bulk")
+    public ResponseEntity<BulkEmailResponse> sendBulkAlert(@Valid @RequestBody BulkEmailRequest request) {
+        // Same rules as a single alert's "to"; invalid addresses are reported back instead of failing the batch
+        Map<Boolean, List<String>> byValidity = request.getRecipients().stream()
+                .collect(Collectors.partitioningBy(to -> validator.validateValue(EmailRequest.class, "to", to).isEmpty()));
+        List<String> recipients = byValidity.get(true);
+        List<String> rejected = byValidity.get(false);
+        if (!rejected.isEmpty()) {
+            log.warn("Skipping {} invalid recipients in bulk alert", rejected.size());
+        }
+
+        if (!recipients.isEmpty()) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("message", request.getMessage());
+            emailService.sendBulkHtmlEmail(recipients, request.getSubject(), NotificationTemplate.ALERT.getValue(), variables);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(BulkEmailResponse.builder()
+                .message(MessageKeys.BULK_ALERT_ACCEPTED.getMessage())
+                .accepted(recipients.size())
+                .rejected(rejected)
+                .build());
+    }
+
     @PostMapping("/password-reset/otp")
     public ResponseEntity<String> sendPasswordResetOtp(@Valid @RequestBody OtpRequest request) {
         String otp = otpService.generateOtp(request.getEmail());
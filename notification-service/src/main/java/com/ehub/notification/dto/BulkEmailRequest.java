@@ -0,0 +1,22 @@
+package com.ehub.notification.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkEmailRequest {
+    public static final int MAX_RECIPIENTS = 1000;
+
+    // Addresses are checked one by one in the controller, so a single bad one does not reject the batch
+    @NotEmpty
+    @Size(max = MAX_RECIPIENTS)
+    private List<String> recipients;
+    @NotBlank
+    private String subject;
+    @NotBlank
+    private String message;
+}
@@ -0,0 +1,18 @@
+package com.ehub.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkEmailResponse {
+    private String message;
+    private int accepted;
+    private List<String> rejected;
+}
@@ -1,17 +1,32 @@
 package com.ehub.notification.service;
 
 import com.ehub.notification.util.MessageKeys;
+import com.ehub.notification.util.NotificationTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,8 +35,40 @@ public class EmailService {
 
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
+
+    // SMTPTransport sends from synchronized methods, which would pin a virtual thread to its carrier
+    // for the whole SMTP exchange; deliveries run on a small platform-thread pool instead
+    private ExecutorService smtpSenders;
+
+    @Value("${app.mail.sender-threads:8}")
+    private int senderThreads;
+
+    // Built up front per template and outcome; the map only grows for a template outside NotificationTemplate
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        for (NotificationTemplate template : NotificationTemplate.values()) {
+            for (String outcome : List.of("success", "failure")) {
+                sendTimer(template.getValue(), outcome);
+            }
+        }
+        smtpSenders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "smtp-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        smtpSenders.shutdown();
+    }
 
     public void sendHtmlEmail(String to, String subject, String templateName, Map<String, Object> variables) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -34,11 +81,71 @@ public class EmailService {
             helper.setSubject(subject);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            deliver(() -> mailSender.send(message));
+            outcome = "success";
             log.info("Email sent successfully to {}", to);
         } catch (MessagingException e) {
             log.error("Failed to send email to {}", to, e);
             throw new RuntimeException(MessageKeys.EMAIL_SENDING_FAILED.getMessage());
+        } finally {
+            // Covers rendering, the wait for a free SMTP sender and the SMTP exchange itself
+            sample.stop(sendTimer(templateName, outcome));
+        }
+    }
+
+    @Async
+    public void sendBulkHtmlEmail(List<String> recipients, String subject, String templateName, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        String htmlContent = templateEngine.process(templateName, context);
+
+        List<MimeMessage> messages = new ArrayList<>(recipients.size());
+        for (String to : recipients) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+                helper.setTo(to);
+                helper.setSubject(subject);
+                helper.setText(htmlContent, true);
+                messages.add(message);
+            } catch (MessagingException e) {
+                log.error("Failed to build email for {}", to, e);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        // A single send call delivers the whole batch over one SMTP connection
+        try {
+            deliver(() -> mailSender.send(messages.toArray(new MimeMessage[0])));
+            log.info("Bulk email sent to {} recipients", messages.size());
+        } catch (MailException e) {
+            log.error("Bulk email to {} recipients partially failed", messages.size(), e);
+        }
+    }
+
+    private Timer sendTimer(String templateName, String outcome) {
+        return sendTimers.computeIfAbsent(templateName + ":" + outcome, key -> Timer.builder("ehub.email.send")
+                .description("Time to render and deliver one HTML email")
+                .tag("template", templateName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private void deliver(Runnable send) {
+        try {
+            smtpSenders.submit(send).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for SMTP delivery");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new MailSendException("SMTP delivery failed", e.getCause());
         }
     }
 }
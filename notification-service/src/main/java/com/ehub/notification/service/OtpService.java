@@ -1,5 +1,8 @@
 package com.ehub.notification.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import com.ehub.notification.util.MessageKeys;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -14,6 +17,7 @@ import java.util.concurrent.TimeUnit;
 public class OtpService {
 
     private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
     private final SecureRandom secureRandom = new SecureRandom();
 
     @Value("${app.otp.rate-limit.item-limit}")
@@ -22,9 +26,26 @@ public class OtpService {
     @Value("${app.otp.rate-limit.time-limit-minutes}")
     private int timeLimitMinutes;
 
+    private Timer generateTimer;
+    private Timer validateTimer;
+
+    @PostConstruct
+    public void init() {
+        generateTimer = redisTimer("generate");
+        validateTimer = redisTimer("validate");
+    }
+
     public String generateOtp(String email) {
-        String otpKey = "OTP:" + email;
-        String limitKey = "OTP_LIMIT:" + email;
+        return generateTimer.record(() -> issueOtp(email));
+    }
+
+    public boolean validateOtp(String email, String otp) {
+        return Boolean.TRUE.equals(validateTimer.record(() -> checkOtp(email, otp)));
+    }
+
+    private String issueOtp(String email) {
+        String otpKey = otpKey(email);
+        String limitKey = limitKey(email);
         
         // 1. Increment and get the count atomically
         Long count = redisTemplate.opsForValue().increment(limitKey);
@@ -42,7 +63,7 @@ public class OtpService {
         // 4. Check for existing OTP (Resend logic)
         String otp = redisTemplate.opsForValue().get(otpKey);
         if (otp == null) {
-            otp = String.format("%06d", secureRandom.nextInt(1000000));
+            otp = formatOtp(secureRandom.nextInt(1000000));
         }
         
         // 5. Store/Refresh with 10 minutes expiry
@@ -51,12 +72,34 @@ public class OtpService {
         return otp;
     }
 
-    public boolean validateOtp(String email, String otp) {
-        String storedOtp = redisTemplate.opsForValue().get("OTP:" + email);
+    private Boolean checkOtp(String email, String otp) {
+        String otpKey = otpKey(email);
+        String storedOtp = redisTemplate.opsForValue().get(otpKey);
         if (storedOtp != null && storedOtp.equals(otp)) {
-            redisTemplate.delete("OTP:" + email);
+            redisTemplate.delete(otpKey);
             return true;
         }
         return false;
     }
+
+    // Timer per OTP operation; each one is a short sequence of Redis round trips
+    private Timer redisTimer(String operation) {
+        return Timer.builder("ehub.otp.redis")
+                .description("Redis time spent per OTP operation")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    static String otpKey(String email) {
+        return "OTP:" + email;
+    }
+
+    static String limitKey(String email) {
+        return "OTP_LIMIT:" + email;
+    }
+
+    static String formatOtp(int value) {
+        return String.format("%06d", value);
+    }
 }
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 public enum MessageKeys {
     RATE_LIMIT_EXCEEDED("Rate limit exceeded. Please try again after %d minutes."),
     ALERT_SENT_SUCCESS("Alert sent successfully"),
+    BULK_ALERT_ACCEPTED("Bulk alert accepted for delivery"),
     OTP_SENT_SUCCESS("OTP sent successfully"),
     EMAIL_SENDING_FAILED("Email sending failed");
 
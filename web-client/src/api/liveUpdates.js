@@ -0,0 +1,56 @@
+// EventSource cannot send an Authorization header, so the SSE stream is read with fetch
+const baseURL = import.meta.env.VITE_API_URL || 'http://localhost:8000'
+const RECONNECT_DELAY_MS = 5000
+
+export const subscribeLiveUpdates = ({ eventIds = [], userId }, onUpdate) => {
+  const params = new URLSearchParams()
+  eventIds.forEach(id => params.append('eventIds', id))
+  if (userId) params.append('userId', userId)
+
+  const controller = new AbortController()
+  let reconnectTimer = null
+
+  const connect = async () => {
+    try {
+      const token = localStorage.getItem('token')
+      const response = await fetch(`${baseURL}/events/stream?${params}`, {
+        headers: {
+          Accept: 'text/event-stream',
+          ...(token ? { Authorization: `Bearer ${token}` } : {})
+        },
+        signal: controller.signal
+      })
+      if (!response.ok || !response.body) throw new Error(`Stream failed: ${response.status}`)
+
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+      let buffer = ''
+      while (true) {
+        const { value, done } = await reader.read()
+        if (done) break
+        buffer += value
+        const frames = buffer.split('\n\n')
+        buffer = frames.pop()
+        frames.forEach(frame => {
+          const data = frame.split('\n')
+            .filter(line => line.startsWith('data:'))
+            .map(line => line.slice(5).trim())
+            .join('\n')
+          if (data) onUpdate(JSON.parse(data))
+        })
+      }
+    } catch (err) {
+      if (controller.signal.aborted) return
+      console.error('Live updates disconnected:', err)
+    }
+    if (!controller.signal.aborted) {
+      reconnectTimer = setTimeout(connect, RECONNECT_DELAY_MS)
+    }
+  }
+
+  connect()
+
+  return () => {
+    clearTimeout(reconnectTimer)
+    controller.abort()
+  }
+}
@@ -12,12 +12,19 @@ const BrowseEvents = () => {
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState('')
   const [searchTerm, setSearchTerm] = useState('')
+  const [nextCursor, setNextCursor] = useState(null)
+  const [loadingMore, setLoadingMore] = useState(false)
+
+  const fetchCatalogPage = async (cursor) => {
+    const response = await api.get('/events/catalog', { params: { cursor } })
+    setEvents(prev => (cursor ? [...prev, ...response.data.items] : response.data.items))
+    setNextCursor(response.data.nextCursor)
+  }
 
   useEffect(() => {
     const fetchEvents = async () => {
       try {
-        const response = await api.get('/events')
-        setEvents(response.data)
+        await fetchCatalogPage(null)
       } catch (err) {
         setError('Mission sync failed: Unable to fetch global event list.')
         console.error(err)
@@ -28,6 +35,17 @@ const BrowseEvents = () => {
     fetchEvents()
   }, [])
 
+  const handleLoadMore = async () => {
+    setLoadingMore(true)
+    try {
+      await fetchCatalogPage(nextCursor)
+    } catch (err) {
+      console.error(err)
+    } finally {
+      setLoadingMore(false)
+    }
+  }
+
   const filteredEvents = events.filter(event => {
     const term = searchTerm.toLowerCase();
     const cleanTerm = term.startsWith('#') ? term.substring(1) : term;
@@ -103,7 +121,7 @@ const BrowseEvents = () => {
                   {event.name}
                 </h3>
                 <p className="mb-6 line-clamp-2 text-sm text-slate-500 font-medium leading-relaxed">
-                  {event.description || 'No description provided'}
+                  {event.summary || 'No description provided'}
                 </p>
                 
                 <div className="flex items-center justify-between border-t border-slate-100 pt-5">
@@ -120,6 +138,19 @@ const BrowseEvents = () => {
             ))}
           </div>
         )}
+
+        {!loading && !error && nextCursor && (
+          <div className="mt-10 flex justify-center">
+            <button
+              onClick={handleLoadMore}
+              disabled={loadingMore}
+              className="flex items-center gap-2 px-6 py-3 bg-white border border-slate-200 rounded-xl text-xs font-black text-blue-600 uppercase tracking-widest shadow-sm hover:border-blue-300 transition-all disabled:opacity-50"
+            >
+              {loadingMore && <Loader2 className="animate-spin" size={14} />}
+              Load More Missions
+            </button>
+          </div>
+        )}
       </div>
     </div>
   )
@@ -20,16 +20,18 @@ const Dashboard = () => {
   useEffect(() => {
     const fetchEvents = async () => {
       try {
-        let response
+        let events
         const userId = user.id || user.username
         if (isOrganizer) {
-          response = await api.get(`/events/organizer/${userId}`)
+          const response = await api.get(`/events/organizer/${userId}`)
+          events = response.data
         } else {
-          response = await api.get(`/events/participant/${userId}`)
+          const response = await api.get(`/events/participant/${userId}/dashboard`)
+          events = response.data.registrations.map(reg => ({ ...reg.event, registrationStatus: reg.status }))
         }
         
         // Sort events: ONGOING first
-        const sortedEvents = response.data.sort((a, b) => {
+        const sortedEvents = events.sort((a, b) => {
           if (a.status === 'ONGOING' && b.status !== 'ONGOING') return -1;
           if (a.status !== 'ONGOING' && b.status === 'ONGOING') return 1;
           return 0;
@@ -115,7 +117,7 @@ const Dashboard = () => {
                   {event.name}
                 </h3>
                 <p className="mb-6 line-clamp-2 text-sm text-slate-500 font-medium leading-relaxed">
-                  {event.description || 'No description provided'}
+                  {event.description || event.summary || 'No description provided'}
                 </p>
                 
                 <div className="flex items-center justify-between border-t border-slate-100 pt-5">
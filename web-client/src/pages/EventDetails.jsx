@@ -2,6 +2,7 @@ import { useState, useEffect } from 'react'
 import { useParams, useNavigate, Link } from 'react-router-dom'
 import { useAuth } from '../context/AuthContext'
 import api from '../api/axios'
+import { subscribeLiveUpdates } from '../api/liveUpdates'
 import { cn } from '../utils/cn'
 import Button from '../components/Button'
 import Card from '../components/Card'
@@ -48,6 +49,7 @@ const EventDetails = () => {
   const [registering, setRegistering] = useState(false)
   
   const [teams, setTeams] = useState([])
+  const [leaderboard, setLeaderboard] = useState([])
   const [myTeam, setMyTeam] = useState(null)
   const [teamLoading, setTeamLoading] = useState(false)
   
@@ -154,6 +156,30 @@ const EventDetails = () => {
     fetchData()
   }, [eventId, user, registrationStatus])
 
+  useEffect(() => {
+    const userId = user ? (user.id || user.username) : null
+    return subscribeLiveUpdates({ eventIds: [eventId], userId }, (update) => {
+      const { type, payload } = update
+      if (payload.eventId !== eventId) return
+      if (type === 'STATUS_CHANGED') {
+        setEvent(prev => prev ? { ...prev, status: payload.status } : prev)
+      } else if (type === 'SCORE_UPDATED') {
+        setTeams(prev => prev.map(t => t.id === payload.teamId ? { ...t, score: payload.score } : t))
+      } else if (type === 'REGISTRATION_STATUS') {
+        setRegistrationStatus(payload.status)
+      } else if (type === 'TEAM_INVITE') {
+        api.get(`/events/teams/${eventId}`).then(res => setTeams(res.data)).catch(() => {})
+      }
+    })
+  }, [eventId, user])
+
+  useEffect(() => {
+    if (activeTab !== 'Results') return
+    api.get(`/events/${eventId}/leaderboard?limit=100`)
+      .then(res => setLeaderboard(res.data.entries))
+      .catch(err => console.error('Failed to fetch leaderboard:', err))
+  }, [eventId, activeTab])
+
   const handleCreateTeam = async (teamName) => {
     if (!teamName.trim()) return
     setTeamLoading(true)
@@ -344,16 +370,14 @@ const EventDetails = () => {
     ...(isOrganizer ? [{ name: 'Registrations', icon: Shield }] : [])
   ]
 
-  const sortedResults = [...teams].sort((a, b) => {
-    // Sort by score descending
-    if ((b.score || 0) !== (a.score || 0)) {
-      return (b.score || 0) - (a.score || 0);
-    }
-    // If scores are equal, sort by submission time ascending (earlier is better)
-    const timeA = a.submissionTime ? new Date(a.submissionTime).getTime() : Infinity;
-    const timeB = b.submissionTime ? new Date(b.submissionTime).getTime() : Infinity;
-    return timeA - timeB;
-  });
+  // Ranked server-side: score descending, earlier submission first on ties
+  const sortedResults = leaderboard.map(entry => ({
+    id: entry.teamId,
+    name: entry.teamName,
+    shortCode: entry.shortCode,
+    score: entry.score,
+    submissionTime: entry.submissionTime
+  }))
 
   return (
     <div className="min-h-screen bg-[#F8FAFC] font-sans selection:bg-blue-100 pb-20">
@@ -659,7 +683,7 @@ const EventDetails = () => {
                     </td>
                   </tr>
                 ))}
-                {teams.length === 0 && (
+                {sortedResults.length === 0 && (
                   <tr><td colSpan="4" className="px-8 py-20 text-center text-slate-400 italic">No results data available</td></tr>
                 )}
               </Table>